@@ -0,0 +1,76 @@
+#!/usr/bin/env bash
+#
+# Platform threads vs virtual threads under load, on this machine.
+#
+# Builds the jar (java21 Maven profile), then for each mode starts the app on a
+# local port with quiet logging, drives GET /courses and GET /courses/{id} with
+# HttpLoadClient (closed loop, CONCURRENCY workers), and prints throughput and
+# p50/p95/p99 per path. Results are also written to target/load/.
+#
+# Requires JDK 21+ on PATH (virtual threads). On JDK 17 the "virtual" mode silently
+# runs platform threads, so only MODES=platform MAVEN_PROFILES= is meaningful there.
+#
+#   scripts/virtual-threads-benchmark.sh                  # 400 workers, 10 s warmup, 30 s per path
+#   CONCURRENCY=1000 DURATION=60 scripts/virtual-threads-benchmark.sh
+#
+set -euo pipefail
+cd "$(dirname "$0")/.."
+
+CONCURRENCY=${CONCURRENCY:-400}
+WARMUP=${WARMUP:-10}
+DURATION=${DURATION:-30}
+PORT=${PORT:-18080}
+MODES=${MODES:-"platform virtual"}
+MAVEN_PROFILES=${MAVEN_PROFILES-"-Pjava21"}
+# Seeded courses (DataSeeder, SEQ_COURSE starts at 100000)
+COURSE_IDS=${COURSE_IDS:-100000-100004}
+
+mvn -B -q $MAVEN_PROFILES -DskipTests package
+JAR=$(ls target/edupro-campus-management-*.jar | grep -v '\.original$' | head -1)
+mkdir -p target/load
+REPORT="target/load/virtual-threads-$(date +%Y%m%d-%H%M%S).txt"
+
+start_app() {
+	local profiles=$1 log=$2
+	java -jar "$JAR" \
+		--server.port="$PORT" \
+		--spring.profiles.active="$profiles" \
+		--spring.jpa.show-sql=false \
+		--logging.level.root=WARN \
+		--logging.level.org.hibernate.SQL=WARN \
+		--logging.level.org.springframework.security=WARN \
+		--logging.level.org.springframework.security.web=WARN \
+		--logging.level.org.springframework.security.web.FilterChainProxy=WARN \
+		--logging.level.org.springframework.security.authentication=WARN \
+		--edupro.access-log.mode=off \
+		>"$log" 2>&1 &
+	APP_PID=$!
+	for _ in $(seq 1 120); do
+		if curl -fs "http://localhost:$PORT/actuator/health" >/dev/null 2>&1; then
+			return 0
+		fi
+		sleep 1
+	done
+	echo "App did not start, see $log" >&2
+	kill "$APP_PID" 2>/dev/null || true
+	exit 1
+}
+
+load() {
+	java -cp target/test-classes com.eduproject.load.HttpLoadClient \
+		--base "http://localhost:$PORT" --path "$1" --ids "$COURSE_IDS" \
+		--concurrency "$CONCURRENCY" --warmup "$WARMUP" --duration "$DURATION"
+}
+
+echo "# $(date -Is) $(java -version 2>&1 | head -1), $(nproc) CPUs, concurrency=$CONCURRENCY" | tee "$REPORT"
+for mode in $MODES; do
+	profiles=h2
+	[ "$mode" = virtual ] && profiles=h2,virtual-threads
+	start_app "$profiles" "target/load/app-$mode.log"
+	for path in /courses '/courses/{id}'; do
+		echo "mode=$mode $(load "$path")" | tee -a "$REPORT"
+	done
+	kill "$APP_PID"
+	wait "$APP_PID" 2>/dev/null || true
+done
+echo "Report: $REPORT"
@@ -0,0 +1,124 @@
+package com.eduproject.benchmark;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.eduproject.config.AccessLogFilter;
+import com.eduproject.config.AsyncAccessLog;
+import com.eduproject.config.RequestLoggingFilter;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.FileAppender;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+
+/**
+ * Per-request cost of request logging on the request thread, 4 concurrent "requests":
+ * - noLogging:           the request/response objects and an empty chain (baseline)
+ * - requestLoggingFilter: the old synchronous two-line filter (edupro.access-log.mode=debug)
+ * - asyncAccessLog:       AccessLogFilter + AsyncAccessLog (the default)
+ *
+ * Both loggers write to the same file appender with Spring Boot's console pattern,
+ * so the I/O cost is real. Run with {@code -prof gc} for bytes allocated per request.
+ * The async variant prints how many entries it dropped (ring full) at teardown.
+ *
+ *   mvn -Pbenchmark -DskipTests test-compile exec:exec -Djmh.args="AccessLogBenchmark -prof gc"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Threads(4)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class AccessLogBenchmark {
+
+	private static final FilterChain EMPTY_CHAIN = (request, response) -> { };
+
+	private RequestLoggingFilter requestLoggingFilter;
+
+	private AsyncAccessLog asyncAccessLog;
+
+	private AccessLogFilter accessLogFilter;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		logToFile("target/access-log-benchmark.log");
+		requestLoggingFilter = new RequestLoggingFilter();
+		asyncAccessLog = new AsyncAccessLog(8192);
+		accessLogFilter = new AccessLogFilter(asyncAccessLog, 1.0);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		asyncAccessLog.close();
+		System.out.printf("%nAsync access log: %d entries dropped (ring full)%n", asyncAccessLog.droppedCount());
+	}
+
+	@Benchmark
+	public MockHttpServletResponse noLogging() throws ServletException, IOException {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		EMPTY_CHAIN.doFilter(request(), response);
+		return response;
+	}
+
+	@Benchmark
+	public MockHttpServletResponse requestLoggingFilter() throws ServletException, IOException {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		requestLoggingFilter.doFilter(request(), response, EMPTY_CHAIN);
+		return response;
+	}
+
+	@Benchmark
+	public MockHttpServletResponse asyncAccessLog() throws ServletException, IOException {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		accessLogFilter.doFilter(request(), response, EMPTY_CHAIN);
+		return response;
+	}
+
+	private static MockHttpServletRequest request() {
+		// A fresh request each time: OncePerRequestFilter marks the request as filtered
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/courses");
+		request.setQueryString("page=2");
+		return request;
+	}
+
+	private static void logToFile(String path) {
+		LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+		PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+		encoder.setContext(context);
+		encoder.setPattern("%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5level %pid --- [%15.15thread] %-40.40logger{39} : %msg%n");
+		encoder.start();
+		FileAppender<ILoggingEvent> file = new FileAppender<>();
+		file.setContext(context);
+		file.setFile(path);
+		file.setAppend(false);
+		file.setEncoder(encoder);
+		file.start();
+
+		Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+		root.detachAndStopAllAppenders();
+		root.addAppender(file);
+		root.setLevel(ch.qos.logback.classic.Level.INFO);
+	}
+}
@@ -0,0 +1,54 @@
+package com.eduproject.benchmark;
+
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.eduproject.EduProApplication;
+
+/**
+ * Boots the real application (services, repositories, caches) for a benchmark,
+ * without Tomcat and against a private in-memory H2 database.
+ *
+ * Arguments are passed as command-line properties so they win over
+ * application.properties (SQL and security DEBUG logging would dominate the timings).
+ * An extra argument replaces the default for the same property, e.g. another
+ * spring.datasource.url (a repeated command-line property would be joined with ",").
+ */
+final class BenchmarkContext {
+
+	private BenchmarkContext() {
+	}
+
+	static ConfigurableApplicationContext start(String... extraArgs) {
+		String[] defaults = {
+				"--spring.datasource.url=jdbc:h2:mem:bench-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+				"--spring.jpa.show-sql=false",
+				"--logging.level.root=WARN",
+				"--logging.level.org.hibernate.SQL=WARN",
+				"--logging.level.org.springframework.security=WARN",
+				"--logging.level.org.springframework.security.web=WARN",
+				"--logging.level.org.springframework.security.web.FilterChainProxy=WARN",
+				"--logging.level.org.springframework.security.authentication=WARN",
+				"--spring.main.banner-mode=off"
+		};
+		String[] args = Stream.concat(
+						Arrays.stream(defaults).filter(arg -> Arrays.stream(extraArgs).noneMatch(extra -> name(extra).equals(name(arg)))),
+						Arrays.stream(extraArgs))
+				.toArray(String[]::new);
+
+		return new SpringApplicationBuilder(EduProApplication.class)
+				.web(WebApplicationType.NONE)
+				.logStartupInfo(false)
+				.run(args);
+	}
+
+	private static String name(String arg) {
+		int equals = arg.indexOf('=');
+		return equals < 0 ? arg : arg.substring(0, equals);
+	}
+}
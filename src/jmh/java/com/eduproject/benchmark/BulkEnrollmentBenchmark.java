@@ -0,0 +1,96 @@
+package com.eduproject.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.eduproject.model.CourseEntity;
+import com.eduproject.repository.CourseRepository;
+import com.eduproject.service.CourseService;
+
+/**
+ * Enrolling a cohort of {@link #COHORT} students into an empty course:
+ * CourseService.enrollUsers (one transaction, JDBC batch) vs. calling
+ * enrollUser once per student.
+ *
+ * Single-shot: each iteration enrolls the whole cohort into a fresh course
+ * (created before the iteration, not measured). Throughput = COHORT / score.
+ *
+ *   mvn -Pbenchmark -DskipTests test-compile exec:exec -Djmh.args="BulkEnrollmentBenchmark"
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class BulkEnrollmentBenchmark {
+
+	private static final int COHORT = 10_000;
+
+	private ConfigurableApplicationContext context;
+
+	private CourseService courseService;
+
+	private CourseRepository courseRepository;
+
+	private List<String> usernames;
+
+	private Long courseId;
+
+	private int iteration;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		context = BenchmarkContext.start();
+		courseService = context.getBean(CourseService.class);
+		courseRepository = context.getBean(CourseRepository.class);
+
+		usernames = new ArrayList<>(COHORT);
+		List<Object[]> users = new ArrayList<>(COHORT);
+		for (int i = 0; i < COHORT; i++) {
+			usernames.add("cohort-" + i);
+			users.add(new Object[]{"cohort-" + i, "cohort-" + i + "@bench.local"});
+		}
+		context.getBean(JdbcTemplate.class).batchUpdate("insert into users (id, username, password, first_name, email, role, enabled) "
+				+ "values (next value for SEQ_USER, ?, 'x', 'Bench', ?, 'STUDENT', true)", users);
+	}
+
+	@Setup(Level.Iteration)
+	public void newCourse() {
+		courseId = courseRepository.save(CourseEntity.builder()
+				.title("Cohort Course " + iteration++).description("Bulk enrollment benchmark").build()).getId();
+	}
+
+	@Benchmark
+	public Object bulk() {
+		return courseService.enrollUsers(courseId, usernames);
+	}
+
+	@Benchmark
+	public void oneByOne() {
+		for (String username : usernames) {
+			courseService.enrollUser(courseId, username);
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+	}
+}
@@ -0,0 +1,116 @@
+package com.eduproject.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.h2.tools.Server;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.eduproject.model.CourseImportResult;
+import com.eduproject.model.ImportFormat;
+import com.eduproject.service.CourseImportService;
+
+/**
+ * Importing a {@link #ROWS}-row CSV file into an empty catalog through
+ * CourseImportService: parse, validate, title check and insert.
+ *
+ * batchSize=1 turns JDBC batching off (one INSERT round trip per row) for comparison;
+ * 50 is the configured value. With the embedded database a "round trip" is a method
+ * call, so database=tcp runs the same in-memory H2 behind its TCP server (over
+ * loopback) to show what batching saves once statements cross a connection.
+ *
+ * Single-shot: the courses of the previous iteration are deleted first (not measured).
+ * Rows per second = ROWS / score.
+ *
+ *   mvn -Pbenchmark -DskipTests test-compile exec:exec -Djmh.args="CourseImportBenchmark"
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class CourseImportBenchmark {
+
+	private static final int ROWS = 100_000;
+
+	@Param({"1", "50"})
+	public int batchSize;
+
+	@Param({"embedded", "tcp"})
+	public String database;
+
+	private Server server;
+
+	private ConfigurableApplicationContext context;
+
+	private CourseImportService courseImportService;
+
+	private JdbcTemplate jdbc;
+
+	private byte[] csv;
+
+	@Setup(Level.Trial)
+	public void setUp() throws SQLException {
+		String batching = "--spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize;
+		if (database.equals("tcp")) {
+			server = Server.createTcpServer("-tcpPort", "0", "-ifNotExists").start();
+			context = BenchmarkContext.start(batching, "--spring.datasource.url=jdbc:h2:tcp://localhost:" + server.getPort()
+					+ "/mem:bench-import-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+		} else {
+			context = BenchmarkContext.start(batching);
+		}
+		courseImportService = context.getBean(CourseImportService.class);
+		jdbc = context.getBean(JdbcTemplate.class);
+
+		StringBuilder file = new StringBuilder("title,description,durationInHours,fees,instructor,capacity\n");
+		for (int i = 0; i < ROWS; i++) {
+			file.append("Imported Course #").append(i)
+					.append(",\"Seeded by the import benchmark, course ").append(i).append("\",")
+					.append(10 + i % 90).append(',').append(i % 500).append(".99,Instructor ")
+					.append(i % 100).append(',').append(i % 3 == 0 ? "" : "40").append('\n');
+		}
+		csv = file.toString().getBytes(StandardCharsets.UTF_8);
+	}
+
+	@Setup(Level.Iteration)
+	public void emptyCatalog() {
+		jdbc.update("delete from COURSES where COURSE_TITLE like 'Imported Course #%'");
+	}
+
+	@Benchmark
+	public CourseImportResult importCsv() throws IOException {
+		CourseImportResult result = courseImportService.importCourses(new ByteArrayInputStream(csv), ImportFormat.CSV);
+		if (result.getImported() != ROWS) {
+			throw new IllegalStateException("Expected " + ROWS + " imported courses: " + result);
+		}
+		return result;
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+		if (server != null) {
+			server.stop();
+		}
+	}
+}
@@ -0,0 +1,101 @@
+package com.eduproject.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.BeanUtils;
+
+import com.eduproject.mapper.CourseMapper;
+import com.eduproject.model.CourseEntity;
+import com.eduproject.model.CourseResponse;
+import com.eduproject.model.CreateCourseRequest;
+
+/**
+ * BeanUtils.copyProperties (old CourseServiceImpl mapping) vs CourseMapper.
+ *
+ * Run with allocation profiling:
+ *   mvn -Pbenchmark -DskipTests test-compile exec:exec -Djmh.args="CourseMapping -prof gc"
+ *
+ * Compare ops/us (throughput) and gc.alloc.rate.norm (bytes allocated per mapping).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CourseMappingBenchmark {
+
+	private CourseEntity entity;
+
+	private CreateCourseRequest request;
+
+	@Setup
+	public void setUp() {
+		entity = CourseEntity.builder()
+				.id(100_001L)
+				.title("Spring Boot")
+				.description("Master Spring Boot for REST APIs")
+				.durationInHours(30)
+				.instructor("Jane Smith")
+				.fees(BigDecimal.valueOf(5623.0))
+				.version(3)
+				.createdDate(LocalDateTime.now())
+				.build();
+		request = new CreateCourseRequest(100_001L, "Spring Boot", "Master Spring Boot for REST APIs",
+				30, BigDecimal.valueOf(5623.0), "Jane Smith");
+	}
+
+	// --- Entity -> CourseResponse (runs once per course on every catalog render) ---
+
+	@Benchmark
+	public CourseResponse toResponse_beanUtils() {
+		CourseResponse response = new CourseResponse();
+		BeanUtils.copyProperties(entity, response);
+		return response;
+	}
+
+	@Benchmark
+	public CourseResponse toResponse_mapper() {
+		return CourseMapper.toResponse(entity);
+	}
+
+	// --- CreateCourseRequest -> new entity (create) ---
+
+	@Benchmark
+	public CourseEntity toEntity_beanUtils() {
+		CourseEntity created = new CourseEntity();
+		BeanUtils.copyProperties(request, created);
+		return created;
+	}
+
+	@Benchmark
+	public CourseEntity toEntity_mapper() {
+		return CourseMapper.toEntity(request);
+	}
+
+	// --- CreateCourseRequest -> managed entity (update) ---
+
+	@Benchmark
+	public CourseEntity updateEntity_beanUtils() {
+		BeanUtils.copyProperties(request, entity, "id", "version", "createdBy", "createdDate");
+		return entity;
+	}
+
+	@Benchmark
+	public CourseEntity updateEntity_mapper() {
+		CourseMapper.updateEntity(request, entity);
+		return entity;
+	}
+}
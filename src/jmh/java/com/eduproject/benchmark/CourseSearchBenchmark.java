@@ -0,0 +1,123 @@
+package com.eduproject.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.eduproject.index.CourseIndexMaintainer;
+import com.eduproject.index.CourseSearchIndex;
+
+/**
+ * Search latency over {@link #COURSES} synthetic courses: the in-memory
+ * CourseSearchIndex vs. the {@code LIKE '%term%'} scan it replaces (H2, same data).
+ *
+ * The index is built by the real CourseIndexMaintainer.rebuild(), whose log line
+ * reports the startup build time for 100k rows.
+ *
+ *   mvn -Pbenchmark -DskipTests test-compile exec:exec -Djmh.args="CourseSearchBenchmark"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class CourseSearchBenchmark {
+
+	private static final int COURSES = 100_000;
+
+	private static final String[] TOPICS = {
+			"java", "spring", "python", "kubernetes", "docker", "security", "react", "angular", "sql",
+			"oracle", "hibernate", "microservices", "cloud", "aws", "azure", "linux", "networking",
+			"algorithms", "testing", "devops", "kafka", "redis", "graphql", "rust", "golang", "kotlin",
+			"machine", "learning", "data", "analytics", "design", "patterns", "architecture", "web"
+	};
+
+	private static final String[] FILLER = {
+			"learn", "build", "master", "introduction", "advanced", "complete", "guide", "hands",
+			"on", "practical", "projects", "fundamentals", "with", "and", "for", "beginners", "experts"
+	};
+
+	/** rare single term, common single term, two terms with a prefix as the user types */
+	@Param({"golang", "learn", "spring secu"})
+	public String query;
+
+	private ConfigurableApplicationContext context;
+
+	private CourseSearchIndex index;
+
+	private JdbcTemplate jdbc;
+
+	private String likePattern;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		context = BenchmarkContext.start("--logging.level.com.eduproject.index=INFO");
+		jdbc = context.getBean(JdbcTemplate.class);
+		index = context.getBean(CourseSearchIndex.class);
+
+		Random random = new Random(42);
+		List<Object[]> rows = new ArrayList<>(COURSES);
+		for (int i = 0; i < COURSES; i++) {
+			String title = words(random, TOPICS, 2) + " " + words(random, FILLER, 1) + " #" + i;
+			String description = words(random, FILLER, 6) + " " + words(random, TOPICS, 4);
+			String instructor = "Instructor " + random.nextInt(500);
+			rows.add(new Object[]{title, description, instructor});
+		}
+		jdbc.batchUpdate("insert into COURSES (id, COURSE_TITLE, COURSE_DESCRIPTION, COURSE_INSTRUCTOR, VERSION, ENROLLED_COUNT) "
+				+ "values (next value for SEQ_COURSE, ?, ?, ?, 0, 0)", rows);
+
+		context.getBean(CourseIndexMaintainer.class).rebuild();
+
+		// The SQL baseline can only do substring matching on the first word
+		likePattern = "%" + query.split(" ")[0].toLowerCase(Locale.ROOT) + "%";
+	}
+
+	@Benchmark
+	public List<Long> invertedIndex() {
+		return index.search(query, 20);
+	}
+
+	@Benchmark
+	public List<Long> sqlLikeScan() {
+		// Ranked like the index (title hits first), so the scan cannot stop at the first 20 rows
+		return jdbc.queryForList("select id from COURSES where lower(COURSE_TITLE) like ? "
+						+ "or lower(COURSE_DESCRIPTION) like ? or lower(COURSE_INSTRUCTOR) like ? "
+						+ "order by case when lower(COURSE_TITLE) like ? then 0 else 1 end, id fetch first 20 rows only",
+				Long.class, likePattern, likePattern, likePattern, likePattern);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+	}
+
+	private static String words(Random random, String[] vocabulary, int count) {
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < count; i++) {
+			if (i > 0) {
+				sb.append(' ');
+			}
+			sb.append(vocabulary[random.nextInt(vocabulary.length)]);
+		}
+		return sb.toString();
+	}
+}
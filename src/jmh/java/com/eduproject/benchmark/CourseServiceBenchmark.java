@@ -0,0 +1,95 @@
+package com.eduproject.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.eduproject.config.CacheConfig;
+import com.eduproject.model.CoursePage;
+import com.eduproject.service.CourseService;
+
+/**
+ * One catalog page through CourseServiceImpl (keyset query + CourseMapper per row)
+ * over {@link #COURSES} courses in H2, served from the catalog cache vs. rebuilt.
+ *
+ * The uncached variant clears COURSE_CATALOG before every call (not measured), so it
+ * is the cost the first visitor pays after an admin edit. CourseMappingBenchmark
+ * isolates the per-row mapping part.
+ *
+ *   mvn -Pbenchmark -DskipTests test-compile exec:exec -Djmh.args="CourseServiceBenchmark"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CourseServiceBenchmark {
+
+	private static final int COURSES = 10_000;
+
+	@Param({"20", "100"})
+	public int pageSize;
+
+	private ConfigurableApplicationContext context;
+
+	private CourseService courseService;
+
+	private CacheManager cacheManager;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		context = BenchmarkContext.start();
+		courseService = context.getBean(CourseService.class);
+		cacheManager = context.getBean(CacheManager.class);
+
+		List<Object[]> rows = new ArrayList<>(COURSES);
+		for (int i = 0; i < COURSES; i++) {
+			rows.add(new Object[]{"Course #" + i, "Description of course " + i, "Instructor " + i % 50});
+		}
+		context.getBean(JdbcTemplate.class).batchUpdate("insert into COURSES (id, COURSE_TITLE, COURSE_DESCRIPTION, COURSE_INSTRUCTOR, "
+				+ "COURSE_DURATION_HOURS, COURSE_FEES, VERSION, ENROLLED_COUNT) values (next value for SEQ_COURSE, ?, ?, ?, 10, 4999.00, 0, 0)", rows);
+	}
+
+	/** Separate state so only the uncached benchmark pays the per-invocation fixture. */
+	@State(Scope.Thread)
+	public static class ColdCatalog {
+
+		@Setup(Level.Invocation)
+		public void clear(CourseServiceBenchmark benchmark) {
+			benchmark.cacheManager.getCache(CacheConfig.COURSE_CATALOG).clear();
+		}
+	}
+
+	@Benchmark
+	public CoursePage pageCached() {
+		return courseService.getCoursePage(null, null, pageSize);
+	}
+
+	@Benchmark
+	public CoursePage pageUncached(ColdCatalog cold) {
+		return courseService.getCoursePage(null, null, pageSize);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+	}
+}
@@ -0,0 +1,98 @@
+package com.eduproject.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.eduproject.model.CourseEntity;
+import com.eduproject.repository.CourseRepository;
+import com.eduproject.service.CourseService;
+
+/**
+ * Cost of CourseService.enrollUser as the class grows.
+ *
+ * Each invocation enrolls the same extra student into a course that already has
+ * {@code classSize} students; the enrollment is removed again after the invocation
+ * (not measured), so every call sees exactly the same class size.
+ *
+ * Expected: flat average time across classSize -- enrolling is one INSERT,
+ * regardless of how many rows ENROLLMENTS already holds for the course.
+ *
+ *   mvn -Pbenchmark -DskipTests test-compile exec:exec -Djmh.args="EnrollmentBenchmark"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class EnrollmentBenchmark {
+
+	private static final String STUDENT = "bench-newcomer";
+
+	@Param({"10", "1000", "20000"})
+	public int classSize;
+
+	private ConfigurableApplicationContext context;
+
+	private CourseService courseService;
+
+	private JdbcTemplate jdbc;
+
+	private Long courseId;
+
+	private Long studentId;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		context = BenchmarkContext.start();
+		courseService = context.getBean(CourseService.class);
+		jdbc = context.getBean(JdbcTemplate.class);
+
+		courseId = context.getBean(CourseRepository.class).save(CourseEntity.builder()
+				.title("Benchmark Course").description("Enrollment benchmark").build()).getId();
+
+		List<Object[]> users = new ArrayList<>();
+		for (int i = 0; i < classSize; i++) {
+			users.add(new Object[]{"bench-" + i, "bench-" + i + "@bench.local"});
+		}
+		users.add(new Object[]{STUDENT, STUDENT + "@bench.local"});
+		jdbc.batchUpdate("insert into users (id, username, password, first_name, email, role, enabled) "
+				+ "values (next value for SEQ_USER, ?, 'x', 'Bench', ?, 'STUDENT', true)", users);
+
+		jdbc.update("insert into ENROLLMENTS (COURSE_ID, USER_ID) "
+				+ "select ?, id from users where username like 'bench-%' and username <> ?", courseId, STUDENT);
+		studentId = jdbc.queryForObject("select id from users where username = ?", Long.class, STUDENT);
+	}
+
+	@Benchmark
+	public void enroll() {
+		courseService.enrollUser(courseId, STUDENT);
+	}
+
+	@TearDown(Level.Invocation)
+	public void unenroll() {
+		jdbc.update("delete from ENROLLMENTS where COURSE_ID = ? and USER_ID = ?", courseId, studentId);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+	}
+}
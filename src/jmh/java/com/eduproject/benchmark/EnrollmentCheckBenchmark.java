@@ -0,0 +1,93 @@
+package com.eduproject.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.eduproject.model.CourseEntity;
+import com.eduproject.repository.CourseRepository;
+import com.eduproject.service.CourseService;
+
+/**
+ * CourseService.isCourseAlreadyEnrolled (the check behind every course detail page)
+ * for an enrolled and a non-enrolled student, as the class grows.
+ *
+ * Expected: flat across classSize -- the check is a primary-key probe on ENROLLMENTS
+ * plus the unique username index, not a scan of the class list.
+ *
+ *   mvn -Pbenchmark -DskipTests test-compile exec:exec -Djmh.args="EnrollmentCheckBenchmark"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class EnrollmentCheckBenchmark {
+
+	private static final String OUTSIDER = "bench-outsider";
+
+	@Param({"10", "1000", "20000"})
+	public int classSize;
+
+	private ConfigurableApplicationContext context;
+
+	private CourseService courseService;
+
+	private Long courseId;
+
+	private String member;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		context = BenchmarkContext.start();
+		courseService = context.getBean(CourseService.class);
+		JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+
+		courseId = context.getBean(CourseRepository.class).save(CourseEntity.builder()
+				.title("Benchmark Course").description("Enrollment check benchmark").build()).getId();
+
+		List<Object[]> users = new ArrayList<>();
+		for (int i = 0; i < classSize; i++) {
+			users.add(new Object[]{"bench-" + i, "bench-" + i + "@bench.local"});
+		}
+		users.add(new Object[]{OUTSIDER, OUTSIDER + "@bench.local"});
+		jdbc.batchUpdate("insert into users (id, username, password, first_name, email, role, enabled) "
+				+ "values (next value for SEQ_USER, ?, 'x', 'Bench', ?, 'STUDENT', true)", users);
+
+		jdbc.update("insert into ENROLLMENTS (COURSE_ID, USER_ID) "
+				+ "select ?, id from users where username like 'bench-%' and username <> ?", courseId, OUTSIDER);
+		member = "bench-" + classSize / 2;
+	}
+
+	@Benchmark
+	public boolean enrolledStudent() {
+		return courseService.isCourseAlreadyEnrolled(courseId, member);
+	}
+
+	@Benchmark
+	public boolean otherStudent() {
+		return courseService.isCourseAlreadyEnrolled(courseId, OUTSIDER);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+	}
+}
@@ -0,0 +1,85 @@
+package com.eduproject.benchmark;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import com.eduproject.config.BoundedPasswordEncoder;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Login and registration hashing cost: BCrypt on the calling thread vs. the
+ * application's BoundedPasswordEncoder, at the default strength and one above it.
+ *
+ * The difference between the two is the hand-off to the hashing pool; each extra
+ * strength step doubles the BCrypt work. No Spring context.
+ *
+ *   mvn -Pbenchmark -DskipTests test-compile exec:exec -Djmh.args="PasswordEncodingBenchmark"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class PasswordEncodingBenchmark {
+
+	private static final String PASSWORD = "student123";
+
+	@Param({"10", "11"})
+	public int strength;
+
+	private BCryptPasswordEncoder bcrypt;
+
+	private BoundedPasswordEncoder bounded;
+
+	private String hash;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		bcrypt = new BCryptPasswordEncoder(strength);
+		bounded = new BoundedPasswordEncoder(bcrypt, 1, 64, Duration.ofSeconds(30), Duration.ofSeconds(5),
+				new SimpleMeterRegistry());
+		hash = bcrypt.encode(PASSWORD);
+	}
+
+	@Benchmark
+	public String encodeDirect() {
+		return bcrypt.encode(PASSWORD);
+	}
+
+	@Benchmark
+	public String encodeBounded() {
+		return bounded.encode(PASSWORD);
+	}
+
+	@Benchmark
+	public boolean matchesDirect() {
+		return bcrypt.matches(PASSWORD, hash);
+	}
+
+	@Benchmark
+	public boolean matchesBounded() {
+		return bounded.matches(PASSWORD, hash);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		bounded.close();
+	}
+}
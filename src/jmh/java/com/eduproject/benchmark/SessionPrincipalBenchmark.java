@@ -0,0 +1,106 @@
+package com.eduproject.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+
+import com.eduproject.model.AuthenticatedUser;
+import com.eduproject.model.Role;
+import com.eduproject.model.UserAccount;
+import com.eduproject.model.UserEntity;
+
+/**
+ * Per-session cost of the security context: UserEntity as principal (before)
+ * vs. AuthenticatedUser (after).
+ *
+ * Two numbers per variant:
+ * - heap: run with {@code -prof gc}; gc.alloc.rate.norm of the *Context benchmarks is
+ *   the bytes allocated to build one session's SecurityContext (principal + token).
+ * - serialized: bytes of the SecurityContext as written to a persisted/replicated
+ *   session, printed once at setup and returned by the *Serialized benchmarks.
+ *
+ *   mvn -Pbenchmark -DskipTests test-compile exec:exec -Djmh.args="SessionPrincipalBenchmark -prof gc"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class SessionPrincipalBenchmark {
+
+	// Realistic lengths: a bcrypt hash is 60 chars
+	private static final String BCRYPT_HASH = "$2a$10$" + "x".repeat(53);
+
+	private UserAccount account;
+
+	@Setup
+	public void setUp() {
+		account = new UserAccount(4242L, "student.4242", BCRYPT_HASH, Role.STUDENT, true);
+		System.out.printf("%nSerialized SecurityContext: entity principal = %d bytes, compact principal = %d bytes%n",
+				serialize(entityContext()).length, serialize(compactContext()).length);
+	}
+
+	@Benchmark
+	public SecurityContext entityContext() {
+		// What the session held before: the entity, loaded and as Spring Security left it
+		UserEntity user = UserEntity.builder()
+				.id(account.id())
+				.username(account.username())
+				.password(BCRYPT_HASH)
+				.firstName("Student")
+				.lastName("Number " + account.id())
+				.email(account.username() + "@university.example")
+				.role(account.role())
+				.enabled(true)
+				.updateCounter(3L)
+				.createdAt(LocalDateTime.now())
+				.updatedAt(LocalDateTime.now())
+				.build();
+		return new SecurityContextImpl(UsernamePasswordAuthenticationToken.authenticated(user, null, user.getAuthorities()));
+	}
+
+	@Benchmark
+	public SecurityContext compactContext() {
+		AuthenticatedUser user = AuthenticatedUser.from(account);
+		user.eraseCredentials();
+		return new SecurityContextImpl(UsernamePasswordAuthenticationToken.authenticated(user, null, user.getAuthorities()));
+	}
+
+	@Benchmark
+	public int entitySerialized() {
+		return serialize(entityContext()).length;
+	}
+
+	@Benchmark
+	public int compactSerialized() {
+		return serialize(compactContext()).length;
+	}
+
+	private static byte[] serialize(Object sessionAttribute) {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(sessionAttribute);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return bytes.toByteArray();
+	}
+}
@@ -0,0 +1,78 @@
+package com.eduproject.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.eduproject.index.CourseDocument;
+import com.eduproject.index.CourseTitleIndex;
+import com.eduproject.model.CourseSuggestion;
+
+/**
+ * CourseTitleIndex at {@link #TITLES} titles: one autocomplete keystroke, one
+ * duplicate-title pre-check, and the copy-on-write cost of an admin saving a course.
+ *
+ * No Spring context: the index is a plain object.
+ *
+ *   mvn -Pbenchmark -DskipTests test-compile exec:exec -Djmh.args="TitleAutocompleteBenchmark"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class TitleAutocompleteBenchmark {
+
+	private static final int TITLES = 100_000;
+
+	private static final String[] WORDS = {
+			"Java", "Spring", "Python", "Kubernetes", "Docker", "Security", "React", "SQL",
+			"Hibernate", "Cloud", "Linux", "Kafka", "Rust", "Kotlin", "Data", "Design"
+	};
+
+	private CourseTitleIndex index;
+
+	private String existingTitle;
+
+	@Setup
+	public void setUp() {
+		Random random = new Random(42);
+		List<CourseDocument> courses = new ArrayList<>(TITLES);
+		for (int i = 0; i < TITLES; i++) {
+			String title = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " " + i;
+			courses.add(new CourseDocument((long) i, title, null, null));
+		}
+		existingTitle = courses.get(TITLES / 2).title();
+		index = new CourseTitleIndex();
+		index.replaceAll(courses);
+	}
+
+	@Benchmark
+	public List<CourseSuggestion> suggest() {
+		return index.suggest("spring k", 10);
+	}
+
+	@Benchmark
+	public Optional<Long> duplicateCheck() {
+		return index.findIdByTitle(existingTitle);
+	}
+
+	@Benchmark
+	public void renameCourse() {
+		index.put(7L, "Renamed Course");
+	}
+}
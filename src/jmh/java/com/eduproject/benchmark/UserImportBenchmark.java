@@ -0,0 +1,122 @@
+package com.eduproject.benchmark;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.eduproject.model.ImportFormat;
+import com.eduproject.model.UserImportJob;
+import com.eduproject.model.UserRequest;
+import com.eduproject.service.UserImportService;
+import com.eduproject.service.UserService;
+
+/**
+ * Onboarding {@link #ROWS} students: registerUser() once per row, as an admin script
+ * would, against UserImportService with the same rows as a CSV file.
+ *
+ * Both hash every password with the application's BCrypt encoder, so the gap is the
+ * import's hashing fan-out (it grows with edupro.password-hashing.threads, i.e. with
+ * cores) plus batched inserts and chunked uniqueness checks. On one core the
+ * hashing pool has one thread and the two are close: BCrypt is the whole cost.
+ *
+ * Single-shot: the students of the previous iteration are deleted first (not measured).
+ * Rows per second = ROWS / score.
+ *
+ *   mvn -Pbenchmark -DskipTests test-compile exec:exec -Djmh.args="UserImportBenchmark"
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+public class UserImportBenchmark {
+
+	private static final int ROWS = 500;
+
+	@Param({"0"})
+	public int hashingThreads;
+
+	private ConfigurableApplicationContext context;
+
+	private UserService userService;
+
+	private UserImportService userImportService;
+
+	private JdbcTemplate jdbc;
+
+	private final List<UserRequest> students = new ArrayList<>(ROWS);
+
+	private String csv;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		context = BenchmarkContext.start("--edupro.password-hashing.threads=" + hashingThreads);
+		userService = context.getBean(UserService.class);
+		userImportService = context.getBean(UserImportService.class);
+		jdbc = context.getBean(JdbcTemplate.class);
+
+		StringBuilder file = new StringBuilder("username,password,firstName,lastName,email\n");
+		for (int i = 0; i < ROWS; i++) {
+			UserRequest student = new UserRequest("intake-" + i, "secret-" + i, "Student", "No. " + i,
+					"intake-" + i + "@bench.local");
+			students.add(student);
+			file.append(student.getUsername()).append(',').append(student.getPassword()).append(',')
+					.append(student.getFirstName()).append(',').append(student.getLastName()).append(',')
+					.append(student.getEmail()).append('\n');
+		}
+		csv = file.toString();
+	}
+
+	@Setup(Level.Iteration)
+	public void removeStudents() {
+		jdbc.update("delete from users where username like 'intake-%'");
+	}
+
+	@Benchmark
+	public int registerEach() {
+		for (UserRequest student : students) {
+			userService.registerUser(student);
+		}
+		return ROWS;
+	}
+
+	@Benchmark
+	public int importCsv() throws IOException, InterruptedException {
+		Path file = Files.createTempFile("user-import-bench-", ".csv");
+		Files.writeString(file, csv, StandardCharsets.UTF_8);
+		UserImportJob job = userImportService.startImport("bench.csv", ImportFormat.CSV, file);
+		while (!job.isFinished()) {
+			Thread.sleep(5);
+		}
+		if (job.getImported() != ROWS) {
+			throw new IllegalStateException("Expected " + ROWS + " imported students: " + job + " " + job.getErrors());
+		}
+		return job.getImported();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+	}
+}
@@ -0,0 +1,92 @@
+package com.eduproject.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.eduproject.mapper.UserMapper;
+import com.eduproject.model.UserEntity;
+import com.eduproject.model.UserResponse;
+import com.eduproject.repository.UserRepository;
+import com.eduproject.service.UserService;
+
+/**
+ * The user read paths against H2 with {@code users} rows: UserMapper.toResponse on an
+ * already-loaded entity, and the service calls that wrap it (profile page, admin list).
+ *
+ * The gap between mapOne and getUserById is the transaction + SELECT; the gap between
+ * getAllUsers / users and mapOne is what the admin list spends outside the mapper.
+ *
+ *   mvn -Pbenchmark -DskipTests test-compile exec:exec -Djmh.args="UserServiceBenchmark"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class UserServiceBenchmark {
+
+	@Param({"100", "1000"})
+	public int users;
+
+	private ConfigurableApplicationContext context;
+
+	private UserService userService;
+
+	private UserEntity entity;
+
+	private Long userId;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		context = BenchmarkContext.start();
+		userService = context.getBean(UserService.class);
+
+		List<Object[]> rows = new ArrayList<>(users);
+		for (int i = 0; i < users; i++) {
+			rows.add(new Object[]{"bench-" + i, "bench-" + i + "@bench.local"});
+		}
+		context.getBean(JdbcTemplate.class).batchUpdate("insert into users (id, username, password, first_name, last_name, email, role, enabled, created_at) "
+				+ "values (next value for SEQ_USER, ?, 'x', 'Bench', 'User', ?, 'STUDENT', true, current_timestamp)", rows);
+
+		entity = context.getBean(UserRepository.class).findByUsername("bench-" + users / 2).orElseThrow();
+		userId = entity.getId();
+	}
+
+	@Benchmark
+	public UserResponse mapOne() {
+		return UserMapper.toResponse(entity);
+	}
+
+	@Benchmark
+	public UserResponse getUserById() {
+		return userService.getUserById(userId);
+	}
+
+	@Benchmark
+	public List<UserResponse> getAllUsers() {
+		return userService.getAllUsers();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+	}
+}
@@ -0,0 +1,56 @@
+package com.eduproject.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Production access log: one structured line per request, written off the request
+ * thread (see AsyncAccessLog). Active when {@code edupro.access-log.mode=async}
+ * (the default); {@code debug} switches to RequestLoggingFilter instead.
+ *
+ * WHY replace RequestLoggingFilter?
+ * - It wrote two INFO lines per request synchronously on the request thread,
+ *   building strings and looking up the session twice: measurable latency and
+ *   garbage under load (see AccessLogBenchmark).
+ *
+ * Metrics: edupro.access.log.dropped (ring full), edupro.access.log.backlog.
+ */
+@Configuration
+@ConditionalOnProperty(name = "edupro.access-log.mode", havingValue = "async", matchIfMissing = true)
+public class AccessLogConfig {
+
+	@Bean(destroyMethod = "close")
+	AsyncAccessLog asyncAccessLog(@Value("${edupro.access-log.buffer-size}") int bufferSize) {
+		return new AsyncAccessLog(bufferSize);
+	}
+
+	/** First in the chain, like RequestLoggingFilter, so the timing covers security too. */
+	@Bean
+	FilterRegistrationBean<AccessLogFilter> accessLogFilter(AsyncAccessLog asyncAccessLog,
+															@Value("${edupro.access-log.sample-rate}") double sampleRate) {
+		FilterRegistrationBean<AccessLogFilter> registration =
+				new FilterRegistrationBean<>(new AccessLogFilter(asyncAccessLog, sampleRate));
+		registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+		return registration;
+	}
+
+	@Bean
+	MeterBinder accessLogMetrics(AsyncAccessLog asyncAccessLog) {
+		return registry -> {
+			FunctionCounter.builder("edupro.access.log.dropped", asyncAccessLog, AsyncAccessLog::droppedCount)
+					.description("Access log entries dropped because the ring buffer was full")
+					.register(registry);
+			Gauge.builder("edupro.access.log.backlog", asyncAccessLog, AsyncAccessLog::backlog)
+					.description("Access log entries recorded but not yet written")
+					.register(registry);
+		};
+	}
+}
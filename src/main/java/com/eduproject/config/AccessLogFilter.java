@@ -0,0 +1,49 @@
+package com.eduproject.config;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Times each request with nanoTime and hands it to the AsyncAccessLog.
+ *
+ * Sampling: only {@code sampleRate} of successful requests are logged; server
+ * errors (5xx) are always logged. Registered by AccessLogConfig.
+ */
+public class AccessLogFilter extends OncePerRequestFilter {
+
+	private final AsyncAccessLog accessLog;
+	private final double sampleRate;
+
+	public AccessLogFilter(AsyncAccessLog accessLog, double sampleRate) {
+		this.accessLog = accessLog;
+		this.sampleRate = sampleRate;
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request,
+									HttpServletResponse response,
+									FilterChain filterChain) throws ServletException, IOException {
+		long startMillis = System.currentTimeMillis();
+		long startNanos = System.nanoTime();
+		boolean failed = true;
+		try {
+			filterChain.doFilter(request, response);
+			failed = false;
+		} finally {
+			long durationNanos = System.nanoTime() - startNanos;
+			// An exception escaping the chain becomes a 500 further out
+			int status = failed && response.getStatus() < 500 ? 500 : response.getStatus();
+			if (status >= 500 || sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate) {
+				accessLog.record(startMillis, request.getMethod(), request.getRequestURI(),
+						request.getQueryString(), status, durationNanos);
+			}
+		}
+	}
+}
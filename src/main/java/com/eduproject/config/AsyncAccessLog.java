@@ -0,0 +1,171 @@
+package com.eduproject.config;
+
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Access log that keeps formatting and I/O off the request thread.
+ *
+ * Request threads {@link #record} into a preallocated ring of mutable slots: no
+ * strings built, no locks, no allocation. One background thread drains the ring,
+ * formats one structured line per request and writes it to the "access" logger:
+ *
+ *   ts=2026-10-17T09:30:00.123Z method=GET uri=/courses query=page=2 status=200 micros=1840
+ *
+ * If the writer falls behind and the ring is full, entries are DROPPED (and counted)
+ * rather than blocking requests: the log is diagnostics, latency is the product.
+ *
+ * Concurrency: multi-producer / single-consumer. A producer claims a sequence by CAS
+ * (only while the ring has room), fills the slot, then publishes the sequence number
+ * for that slot; the writer reads a slot only once its sequence is published, and
+ * frees it by advancing {@code consumed}.
+ */
+public final class AsyncAccessLog implements AutoCloseable {
+
+	private static final Logger ACCESS = LoggerFactory.getLogger("access");
+
+	private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+	private final Slot[] slots;
+	private final int mask;
+	private final AtomicLongArray published;
+	private final AtomicLong claimed = new AtomicLong();
+	private final AtomicLong consumed = new AtomicLong();
+	private final LongAdder dropped = new LongAdder();
+
+	private final Consumer<String> sink;
+	private final Thread writer;
+	private volatile boolean running = true;
+
+	public AsyncAccessLog(int capacity) {
+		this(capacity, ACCESS::info);
+	}
+
+	AsyncAccessLog(int capacity, Consumer<String> sink) {
+		int size = Integer.highestOneBit(Math.max(2, capacity - 1) << 1);   // next power of two
+		this.slots = new Slot[size];
+		for (int i = 0; i < size; i++) {
+			slots[i] = new Slot();
+		}
+		this.mask = size - 1;
+		this.published = new AtomicLongArray(size);
+		for (int i = 0; i < size; i++) {
+			published.set(i, -1);
+		}
+		this.sink = sink;
+		this.writer = new Thread(this::drainLoop, "access-log-writer");
+		this.writer.setDaemon(true);
+		this.writer.start();
+	}
+
+	/**
+	 * Called on the request thread. Never blocks.
+	 *
+	 * @return false if the ring was full and the entry was dropped
+	 */
+	public boolean record(long startEpochMillis, String method, String uri, String query, int status, long durationNanos) {
+		long sequence;
+		do {
+			sequence = claimed.get();
+			if (sequence - consumed.get() >= slots.length) {
+				dropped.increment();
+				return false;
+			}
+		} while (!claimed.compareAndSet(sequence, sequence + 1));
+
+		Slot slot = slots[(int) sequence & mask];
+		slot.startEpochMillis = startEpochMillis;
+		slot.method = method;
+		slot.uri = uri;
+		slot.query = query;
+		slot.status = status;
+		slot.durationNanos = durationNanos;
+		published.set((int) sequence & mask, sequence);   // volatile write: slot fields visible to the writer
+		return true;
+	}
+
+	public long droppedCount() {
+		return dropped.sum();
+	}
+
+	/** Entries recorded but not yet written. */
+	public long backlog() {
+		return claimed.get() - consumed.get();
+	}
+
+	public int capacity() {
+		return slots.length;
+	}
+
+	/** Stops the writer after it has written everything already recorded. */
+	@Override
+	public void close() {
+		running = false;
+		LockSupport.unpark(writer);
+		try {
+			writer.join(TimeUnit.SECONDS.toMillis(5));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void drainLoop() {
+		StringBuilder line = new StringBuilder(256);
+		while (running || backlog() > 0) {
+			if (drain(line) == 0) {
+				if (!running) {
+					// Claimed but not yet published: its producer is mid-write; give it a moment
+					Thread.onSpinWait();
+				} else {
+					LockSupport.parkNanos(IDLE_PARK_NANOS);
+				}
+			}
+		}
+	}
+
+	private int drain(StringBuilder line) {
+		int written = 0;
+		long next = consumed.get();
+		while (published.get((int) next & mask) == next) {
+			Slot slot = slots[(int) next & mask];
+			line.setLength(0);
+			line.append("ts=");
+			DateTimeFormatter.ISO_INSTANT.formatTo(Instant.ofEpochMilli(slot.startEpochMillis), line);
+			line.append(" method=").append(slot.method)
+					.append(" uri=").append(slot.uri);
+			if (slot.query != null) {
+				line.append(" query=").append(slot.query);
+			}
+			line.append(" status=").append(slot.status)
+					.append(" micros=").append(slot.durationNanos / 1_000);
+			slot.method = slot.uri = slot.query = null;   // don't pin request strings until the slot is reused
+			consumed.set(++next);                        // frees the slot for producers
+
+			try {
+				sink.accept(line.toString());
+			} catch (RuntimeException e) {
+				// A broken appender must not kill the writer thread
+			}
+			written++;
+		}
+		return written;
+	}
+
+	private static final class Slot {
+		long startEpochMillis;
+		String method;
+		String uri;
+		String query;
+		int status;
+		long durationNanos;
+	}
+}
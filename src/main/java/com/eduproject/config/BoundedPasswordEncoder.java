@@ -0,0 +1,155 @@
+package com.eduproject.config;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.eduproject.exception.PasswordHashingBusyException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * PasswordEncoder that runs every encode/matches on a small, bounded thread pool.
+ *
+ * WHY?
+ * - One BCrypt hash is ~100 ms of pure CPU. With hashing on Tomcat worker threads,
+ *   a login storm (exam start) occupies every core and every worker, and catalog
+ *   pages stall behind it.
+ * - Here at most {@code threads} hashes run at once, so the remaining cores keep
+ *   serving everything else. Up to {@code queueCapacity} more wait their turn.
+ * - Beyond that -- or after waiting {@code maxWait} -- the request fails fast with
+ *   {@link PasswordHashingBusyException} (HTTP 503 + Retry-After) instead of
+ *   queueing without limit.
+ *
+ * The calling worker thread still blocks until its own hash is done; what is bounded
+ * is the CPU spent on hashing and the number of requests waiting for it.
+ *
+ * Metrics (/actuator/metrics):
+ *   executor.queued / executor.active / executor.queue.remaining {name=passwordHashing}
+ *   edupro.password.hashing{operation=encode|matches}   hash time on the pool
+ *   edupro.password.hashing.queue.wait                   time spent queued
+ *   edupro.password.hashing.rejected                     503s returned
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+	static final String EXECUTOR_NAME = "passwordHashing";
+
+	private final PasswordEncoder delegate;
+	private final ThreadPoolExecutor executor;
+	private final Duration maxWait;
+	private final Duration retryAfter;
+
+	private final Timer encodeTimer;
+	private final Timer matchesTimer;
+	private final Timer queueWait;
+	private final Counter rejected;
+
+	public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity,
+								  Duration maxWait, Duration retryAfter, MeterRegistry meterRegistry) {
+		this.delegate = delegate;
+		this.maxWait = maxWait;
+		this.retryAfter = retryAfter;
+
+		AtomicInteger threadNumber = new AtomicInteger();
+		this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(queueCapacity),
+				task -> {
+					Thread thread = new Thread(task, "password-hash-" + threadNumber.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				},
+				new ThreadPoolExecutor.AbortPolicy());
+		this.executor.prestartAllCoreThreads();
+
+		new ExecutorServiceMetrics(executor, EXECUTOR_NAME, Tags.empty()).bindTo(meterRegistry);
+		this.encodeTimer = hashTimer(meterRegistry, "encode");
+		this.matchesTimer = hashTimer(meterRegistry, "matches");
+		this.queueWait = Timer.builder("edupro.password.hashing.queue.wait")
+				.description("Time a password hash waited for a free hashing thread")
+				.register(meterRegistry);
+		this.rejected = Counter.builder("edupro.password.hashing.rejected")
+				.description("Password hashes rejected because the hashing pool was saturated")
+				.register(meterRegistry);
+
+		log.info("Password hashing pool: {} threads, queue {}, max wait {}", threads, queueCapacity, maxWait);
+	}
+
+	@Override
+	public String encode(CharSequence rawPassword) {
+		return run(encodeTimer, () -> delegate.encode(rawPassword));
+	}
+
+	@Override
+	public boolean matches(CharSequence rawPassword, String encodedPassword) {
+		return run(matchesTimer, () -> delegate.matches(rawPassword, encodedPassword));
+	}
+
+	@Override
+	public boolean upgradeEncoding(String encodedPassword) {
+		// Parses the hash prefix only: cheap, stays on the caller
+		return delegate.upgradeEncoding(encodedPassword);
+	}
+
+	@Override
+	public void close() {
+		executor.shutdownNow();
+	}
+
+	private <T> T run(Timer timer, Callable<T> hash) {
+		long submitted = System.nanoTime();
+		Future<T> future;
+		try {
+			future = executor.submit(() -> {
+				queueWait.record(System.nanoTime() - submitted, TimeUnit.NANOSECONDS);
+				return timer.recordCallable(hash);
+			});
+		} catch (RejectedExecutionException e) {
+			throw busy("queue full");
+		}
+
+		try {
+			return future.get(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+		} catch (TimeoutException e) {
+			future.cancel(true);
+			throw busy("waited longer than " + maxWait);
+		} catch (InterruptedException e) {
+			future.cancel(true);
+			Thread.currentThread().interrupt();
+			throw busy("interrupted");
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException runtime) {
+				throw runtime;
+			}
+			throw new IllegalStateException("Password hashing failed", e.getCause());
+		}
+	}
+
+	private PasswordHashingBusyException busy(String reason) {
+		rejected.increment();
+		log.warn("Password hashing rejected ({}): active={}, queued={}",
+				reason, executor.getActiveCount(), executor.getQueue().size());
+		return new PasswordHashingBusyException(retryAfter);
+	}
+
+	private static Timer hashTimer(MeterRegistry meterRegistry, String operation) {
+		return Timer.builder("edupro.password.hashing")
+				.tag("operation", operation)
+				.description("Time spent computing a password hash on the hashing pool")
+				.register(meterRegistry);
+	}
+}
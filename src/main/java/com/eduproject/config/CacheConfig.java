@@ -0,0 +1,83 @@
+package com.eduproject.config;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * In-process cache configuration (Spring Cache abstraction + Caffeine).
+ *
+ * Caches:
+ * - {@value #COURSES}:        CourseResponse by course id (course view page)
+ * - {@value #COURSE_CATALOG}: catalog pages, full list and count (course list page)
+ * - {@value #COURSE_CATALOG_HTML}: rendered catalog table per catalog version and page
+ *   (CatalogFragmentCache)
+ * - {@value #USER_DETAILS}:   UserAccount by username (every login and /users/me)
+ *
+ * WHY Caffeine?
+ * - Size-bounded (W-TinyLFU eviction) and TTL-aware, unlike ConcurrentMapCache
+ * - recordStats() feeds Micrometer, so hits/misses/evictions show up in /actuator/metrics,
+ *   plus edupro.cache.hit.ratio{cache} computed by Caffeine
+ *
+ * WHY transaction-aware?
+ * - @CacheEvict on a @Transactional method would otherwise run BEFORE commit, and
+ *   also for work that is then rolled back. The proxy defers evictions/puts until
+ *   the surrounding transaction commits, and drops them on rollback.
+ * - It does NOT stop a reader that loaded before the commit from putting its old
+ *   value after the eviction. That stale entry lives until its expireAfterWrite
+ *   (edupro.cache.*.spec) or the next eviction: every cache here must keep a
+ *   write-based TTL, and nothing may assume an evicted entry stays fresh.
+ *
+ * Cached values are shared between requests: treat them as read-only.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+	public static final String COURSES = "courses";
+
+	public static final String COURSE_CATALOG = "courseCatalog";
+
+	public static final String COURSE_CATALOG_HTML = "courseCatalogHtml";
+
+	public static final String USER_DETAILS = "userDetails";
+
+	@Bean
+	CacheManager cacheManager(@Value("${edupro.cache.courses.spec}") String coursesSpec,
+							  @Value("${edupro.cache.course-catalog.spec}") String catalogSpec,
+							  @Value("${edupro.cache.course-catalog-html.spec}") String catalogHtmlSpec,
+							  @Value("${edupro.cache.user-details.spec}") String userDetailsSpec) {
+		CaffeineCacheManager caffeine = new CaffeineCacheManager();
+		caffeine.registerCustomCache(COURSES, Caffeine.from(coursesSpec).recordStats().build());
+		caffeine.registerCustomCache(COURSE_CATALOG, Caffeine.from(catalogSpec).recordStats().build());
+		caffeine.registerCustomCache(COURSE_CATALOG_HTML, Caffeine.from(catalogHtmlSpec).recordStats().build());
+		caffeine.registerCustomCache(USER_DETAILS, Caffeine.from(userDetailsSpec).recordStats().build());
+		// Only the caches registered above exist; a typo in a cache name fails fast
+		caffeine.setCacheNames(List.of());
+		return new TransactionAwareCacheManagerProxy(caffeine);
+	}
+
+	/** Hit ratio since startup per cache, so dashboards need not divide cache.gets themselves. */
+	@Bean
+	MeterBinder cacheHitRatioMetrics(CacheManager cacheManager) {
+		return registry -> cacheManager.getCacheNames().forEach(name -> {
+			if (cacheManager.getCache(name).getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> cache) {
+				Gauge.builder("edupro.cache.hit.ratio", cache, c -> c.stats().hitRate())
+						.tag("cache", name)
+						.description("Cache hits / requests since startup")
+						.register(registry);
+			}
+		});
+	}
+}
@@ -1,5 +1,7 @@
 package com.eduproject.config;
 
+import com.eduproject.model.AuthenticatedUser;
+import com.eduproject.model.UserAccount;
 import com.eduproject.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -14,6 +16,10 @@ import org.springframework.stereotype.Service;
  * Spring Security auto-discovers this bean (any @Service implementing
  * UserDetailsService) and uses it for authentication. No explicit wiring needed.
  *
+ * Lookups go through the cached UserRepository.findAccountByUsername (see CacheConfig),
+ * so a login costs no query while the user is in the {@code userDetails} cache.
+ * The principal is a compact AuthenticatedUser, not the UserEntity.
+ *
  * NAMING: "Custom" prefix differentiates from Spring's built-in implementations.
  *         "Details" (plural) matches Spring's UserDetailsService interface.
  */
@@ -27,7 +33,11 @@ public class CustomUserDetailsService implements UserDetailsService {
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         log.debug("Loading user by username: {}", username);
-        return userRepository.findByUsername(username)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
+        UserAccount account = userRepository.findAccountByUsername(username);
+        if (account == null) {
+            throw new UsernameNotFoundException("User not found: " + username);
+        }
+        // A fresh object per login: Spring Security erases the password of the one it gets
+        return AuthenticatedUser.from(account);
     }
 }
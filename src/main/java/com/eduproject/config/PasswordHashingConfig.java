@@ -0,0 +1,44 @@
+package com.eduproject.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * The application's PasswordEncoder: BCrypt, run on its own bounded pool
+ * (see BoundedPasswordEncoder) so a login storm cannot take every core.
+ *
+ * Used by form login (DaoAuthenticationProvider) and by UserServiceImpl.registerUser.
+ *
+ * WHY not in SecurityConfig?
+ * - @WebMvcTest slices import SecurityConfig but have no MeterRegistry; they fall
+ *   back to Boot's default in-memory user and never hash a password.
+ */
+@Configuration
+public class PasswordHashingConfig {
+
+	/**
+	 * threads = 0 means half the available processors (at least one) -- see poolSize().
+	 * The pool is shut down with the context (AutoCloseable).
+	 */
+	@Bean
+	PasswordEncoder passwordEncoder(@Value("${edupro.password-hashing.threads}") int threads,
+									@Value("${edupro.password-hashing.queue-capacity}") int queueCapacity,
+									@Value("${edupro.password-hashing.max-wait}") Duration maxWait,
+									@Value("${edupro.password-hashing.retry-after}") Duration retryAfter,
+									MeterRegistry meterRegistry) {
+		return new BoundedPasswordEncoder(new BCryptPasswordEncoder(), poolSize(threads), queueCapacity,
+				maxWait, retryAfter, meterRegistry);
+	}
+
+	/** Hashing threads for edupro.password-hashing.threads; UserImportServiceImpl sizes its fan-out with it. */
+	public static int poolSize(int threads) {
+		return threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+	}
+}
@@ -4,7 +4,9 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
@@ -18,10 +20,12 @@ import java.io.IOException;
  * Use this to visualize the request flow when debugging. Runs first in the filter chain
  * (HIGHEST_PRECEDENCE) so you see the full round-trip.
  * <p>
- * To disable: remove @Component or add a profile condition like @Profile("debug").
+ * Only active with {@code edupro.access-log.mode=debug}: it logs synchronously on the
+ * request thread. The default is the asynchronous one-line access log (AccessLogConfig).
  */
 @Slf4j
 @Component
+@ConditionalOnProperty(name = "edupro.access-log.mode", havingValue = "debug")
 @Order(Ordered.HIGHEST_PRECEDENCE)
 public class RequestLoggingFilter extends OncePerRequestFilter {
 
@@ -33,9 +37,9 @@ public class RequestLoggingFilter extends OncePerRequestFilter {
         String method = request.getMethod();
         String uri = request.getRequestURI();
         String queryString = request.getQueryString();
-        String sessionId = request.getSession(false) != null
-                ? request.getSession().getId()
-                : "none";
+        // getSession(false): logging must never create a session
+        HttpSession session = request.getSession(false);
+        String sessionId = session != null ? session.getId() : "none";
         String auth = request.getRemoteUser();
 
         log.info(">>> REQUEST: {} {} {} | Session: {} | User: {}",
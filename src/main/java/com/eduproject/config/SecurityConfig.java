@@ -4,22 +4,30 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.AuthenticationFailureHandler;
 import org.springframework.security.web.authentication.AuthenticationSuccessHandler;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.security.web.authentication.SimpleUrlAuthenticationFailureHandler;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+
+import com.eduproject.exception.PasswordHashingBusyException;
 
 /**
  * Spring Security configuration.
  *
  * Defines:
  * - URL authorization rules (who can access what)
- * - Form login configuration
- * - Logout handling with flash messages
+ * - Form login configuration (503 + Retry-After when password hashing is saturated)
+ * - Logout handling (message via "/?logout", no session)
+ * - No HTTP session for anonymous browsing of public pages
  * - CSRF exception for H2 console (dev only)
  * - Frame options for H2 console iframe support
  */
@@ -36,21 +44,28 @@ public class SecurityConfig {
 						.requestMatchers("/", "/login", "/css/**", "/js/**").permitAll()
 						.requestMatchers("/users/new").permitAll()
 
+						// Admin-only student import (before "/users/{id}", which any user may reach)
+						.requestMatchers("/users/import", "/users/import/**").hasRole("ADMIN")
+
 						// Admin-only course management (order matters: more specific first)
 						.requestMatchers("/courses/new").hasRole("ADMIN")
+						.requestMatchers("/courses/import").hasRole("ADMIN")
 						.requestMatchers("/courses/*/edit").hasRole("ADMIN")
 						.requestMatchers(HttpMethod.POST, "/courses").hasRole("ADMIN")
 						.requestMatchers(HttpMethod.POST, "/courses/*/delete").hasRole("ADMIN")
                         .requestMatchers(HttpMethod.POST, "/courses/enroll").authenticated()
+						.requestMatchers(HttpMethod.POST, "/courses/*/enroll-bulk").hasRole("ADMIN")
 						.requestMatchers(HttpMethod.POST, "/courses/*").hasRole("ADMIN")
 
 						// Public: course list and course view (permitAll)
 						.requestMatchers("/courses").permitAll()
 						.requestMatchers("/courses/*").permitAll()
+						.requestMatchers(HttpMethod.GET, "/api/courses/**").permitAll()
 
 						// Dev tools
 						.requestMatchers("/h2-console/**").permitAll()
-						.requestMatchers("/actuator/**").permitAll()
+						.requestMatchers("/actuator/health", "/actuator/health/**", "/actuator/info").permitAll()
+						.requestMatchers("/actuator/**").access(localhostOnly())
 
 						// Everything else requires authentication
 						.requestMatchers("/whoami").authenticated()
@@ -61,16 +76,15 @@ public class SecurityConfig {
 				.formLogin(form -> form
 						.loginPage("/login")
 						.successHandler(loginSuccessHandler())
+						.failureHandler(loginFailureHandler())
 						.defaultSuccessUrl("/courses", false)
 						.permitAll()
 				)
 				.logout(logout -> logout
 						.logoutUrl("/logout")
-						.logoutSuccessHandler((request, response, authentication) -> {
-							request.getSession().setAttribute("logoutMessage",
-									"You have been logged out successfully.");
-							response.sendRedirect(request.getContextPath() + "/");
-						})
+						// A query flag, not a session attribute: the session was just invalidated,
+						// and writing to it would create a new one for an anonymous visitor
+						.logoutSuccessUrl("/?logout")
 						.permitAll()
 				)
 				// H2 console: disable CSRF (it makes internal POSTs without tokens)
@@ -84,9 +98,16 @@ public class SecurityConfig {
 				.build();
 	}
 
-	@Bean
-	PasswordEncoder passwordEncoder() {
-		return new BCryptPasswordEncoder();
+	/**
+	 * Actuator endpoints other than health/info: only from the machine itself (a local
+	 * Prometheus / agent, an operator on the box). prometheus, metrics, caches and beans
+	 * all list every URI, cache and query count of the app.
+	 */
+	private static AuthorizationManager<RequestAuthorizationContext> localhostOnly() {
+		IpAddressMatcher ipv4 = new IpAddressMatcher("127.0.0.1");
+		IpAddressMatcher ipv6 = new IpAddressMatcher("::1");
+		return (authentication, context) -> new AuthorizationDecision(
+				ipv4.matches(context.getRequest()) || ipv6.matches(context.getRequest()));
 	}
 
 	/**
@@ -106,4 +127,22 @@ public class SecurityConfig {
 			}
 		};
 	}
+
+	/**
+	 * Bad credentials: back to /login?error as before.
+	 * Hashing pool saturated: 503 + Retry-After (rendered by error/503.html), so the
+	 * client backs off instead of being told its password is wrong.
+	 */
+	@Bean
+	AuthenticationFailureHandler loginFailureHandler() {
+		AuthenticationFailureHandler badCredentials = new SimpleUrlAuthenticationFailureHandler("/login?error");
+		return (request, response, exception) -> {
+			if (exception instanceof PasswordHashingBusyException busy) {
+				response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(busy.getRetryAfter().toSeconds()));
+				response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE, busy.getMessage());
+			} else {
+				badCredentials.onAuthenticationFailure(request, response, exception);
+			}
+		};
+	}
 }
@@ -0,0 +1,80 @@
+package com.eduproject.config;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Caching headers for /css/** and /js/**.
+ *
+ * The rest of the pipeline is Spring's resource chain (application.properties):
+ * - content strategy: Thymeleaf's @{/css/style.css} is rewritten by
+ *   ResourceUrlEncodingFilter to /css/style-{md5 of the content}.css
+ * - compressed: a request accepting br/gzip is answered with the style.css.br /
+ *   style.css.gz written next to the file at build time (pom.xml, precompress-static)
+ *
+ * WHY not spring.web.resources.cache.cachecontrol.*?
+ * - Boot has no property for "immutable", and a one-year max-age must only go on
+ *   fingerprinted URLs: a bookmarked or hand-written /css/style.css would otherwise
+ *   stay stale for a year after a deploy. Those get no-cache and revalidate through
+ *   Last-Modified (304).
+ *
+ * WHY a resource handler of its own for fingerprinted URLs?
+ * - Its Cache-Control is applied only once the VersionResourceResolver has matched the
+ *   hash. A stale or mistyped one (an old node asked for a new build's style-{hash}.css
+ *   during a rolling deploy) is a 404 that keeps the interceptor's no-cache, so no
+ *   proxy holds on to that 404 for a year.
+ * - The pattern covers files directly under /css and /js; anything deeper falls back to
+ *   Boot's /** handler and just revalidates.
+ */
+@Configuration
+public class StaticResourceConfig implements WebMvcConfigurer {
+
+	/**
+	 * One path segment ending in Spring's content version: "-" + 32 hex chars before the
+	 * extension. Spelled out because a PathPattern capture regex cannot contain braces
+	 * (nor slashes: it only ever sees one segment).
+	 */
+	private static final String FINGERPRINTED_FILE = "{file:.+-" + "[0-9a-f]".repeat(32) + "\\.[a-z]+}";
+
+	private static final CacheControl IMMUTABLE = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable();
+
+	private static final String REVALIDATE = CacheControl.noCache().getHeaderValue();
+
+	@Override
+	public void addResourceHandlers(ResourceHandlerRegistry registry) {
+		// Same resolvers, in the same order, as Boot's chain for /** (spring.web.resources.chain.*)
+		for (String dir : List.of("css", "js")) {
+			registry.addResourceHandler("/" + dir + "/" + FINGERPRINTED_FILE)
+					.addResourceLocations("classpath:/static/" + dir + "/")
+					.setCacheControl(IMMUTABLE)
+					.resourceChain(true)
+					.addResolver(new EncodedResourceResolver())
+					.addResolver(new VersionResourceResolver().addContentVersionStrategy("/**"));
+		}
+	}
+
+	@Override
+	public void addInterceptors(InterceptorRegistry registry) {
+		registry.addInterceptor(new HandlerInterceptor() {
+			@Override
+			public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+				// Replaced by IMMUTABLE when a fingerprinted URL resolves
+				response.setHeader(HttpHeaders.CACHE_CONTROL, REVALIDATE);
+				return true;
+			}
+		}).addPathPatterns("/css/**", "/js/**");
+	}
+}
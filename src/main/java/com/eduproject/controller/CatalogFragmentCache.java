@@ -0,0 +1,148 @@
+package com.eduproject.controller;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.context.WebContext;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.web.servlet.JakartaServletWebApplication;
+
+import com.eduproject.config.CacheConfig;
+import com.eduproject.model.CoursePage;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+/**
+ * Rendered HTML of the catalog table (course/catalog.html :: catalog), cached per
+ * catalog version and page.
+ *
+ * WHY cache HTML when the CoursePage is already cached?
+ * - With the data cached, rendering the table is most of what /courses costs: one
+ *   Thymeleaf pass over every row, every request. The output only changes when a
+ *   course or its seats change, which is exactly what CatalogVersion counts.
+ * - A hit is a string copy into the page; the rest of course/list.html (header,
+ *   flash messages, admin buttons) is still rendered per request around it.
+ *
+ * WHY not for admins?
+ * - Their rows carry edit/delete forms with a CSRF token bound to their session.
+ *   Every other visitor sees the same fragment, so one entry serves them all.
+ *
+ * WHY can a stale page not be filed under a new version?
+ * - A miss loads the page straight from the database (CourseService#loadCoursePage),
+ *   not through COURSE_CATALOG: that cache may still hold a page a reader loaded
+ *   before the last commit and put back after its eviction (see CacheConfig).
+ * - The version is read BEFORE loading, and the HTML is only kept if it is still
+ *   current afterwards. A course committed during the load may or may not be in the
+ *   page, so that render is served once and not cached.
+ *
+ * Old versions are never looked up again and simply age out of the cache
+ * (expireAfterWrite, so even a popular key is re-rendered now and then).
+ */
+@Component
+public class CatalogFragmentCache {
+
+	private static final String TEMPLATE = "course/catalog";
+
+	private static final Set<String> FRAGMENT = Set.of("catalog");
+
+	private final SpringTemplateEngine templateEngine;
+
+	private final CatalogVersion catalogVersion;
+
+	private final Cache cache;
+
+	/**
+	 * Built from the first request rather than an injected ServletContext: the service
+	 * layer also runs without a web server (JMH benchmarks), where there is none.
+	 */
+	private volatile JakartaServletWebApplication application;
+
+	public CatalogFragmentCache(SpringTemplateEngine templateEngine, CatalogVersion catalogVersion,
+								CacheManager cacheManager) {
+		this.templateEngine = templateEngine;
+		this.catalogVersion = catalogVersion;
+		this.cache = cacheManager.getCache(CacheConfig.COURSE_CATALOG_HTML);
+	}
+
+	/** Whether this request may be served the shared fragment. */
+	public boolean isCacheable(HttpServletRequest request) {
+		return !request.isUserInRole("ADMIN");
+	}
+
+	/**
+	 * The fragment for this page, rendered from {@code pageLoader} on a miss.
+	 * Concurrent misses for the same key render once; the others wait for it.
+	 *
+	 * @param pageLoader must read the database, not COURSE_CATALOG (see class comment)
+	 */
+	public String get(String after, String before, int size, HttpServletRequest request,
+					  HttpServletResponse response, Supplier<CoursePage> pageLoader) {
+		String tag = catalogVersion.catalogTag();
+		String key = tag + '|' + after + '|' + before + '|' + size;
+		try {
+			return cache.get(key, () -> {
+				String html = render(pageLoader.get(), request, response);
+				if (!tag.equals(catalogVersion.catalogTag())) {
+					// Thrown, not returned: a value loader's result is always cached
+					throw new UncachedRender(html);
+				}
+				return html;
+			});
+		} catch (Cache.ValueRetrievalException e) {
+			if (e.getCause() instanceof UncachedRender uncached) {
+				return uncached.html;
+			}
+			throw e;
+		}
+	}
+
+	private String render(CoursePage page, HttpServletRequest request, HttpServletResponse response) {
+		JakartaServletWebApplication application = this.application;
+		if (application == null) {
+			// Racing first requests may each build one; they are interchangeable
+			application = this.application = JakartaServletWebApplication.buildApplication(request.getServletContext());
+		}
+		WebContext context = new WebContext(application.buildExchange(request, new UnencodedUrls(response)),
+				LocaleContextHolder.getLocale(), Map.of("page", page, "courses", page.getCourses()));
+		return templateEngine.process(TEMPLATE, FRAGMENT, context);
+	}
+
+	/** Carries a render that raced a catalog change out of the cache loader. */
+	private static final class UncachedRender extends RuntimeException {
+
+		private final String html;
+
+		UncachedRender(String html) {
+			super(null, null, false, false);
+			this.html = html;
+		}
+	}
+
+	/**
+	 * Links go to everyone who gets this fragment, so they must not carry this
+	 * request's ;jsessionid (URL-rewriting for clients without a session cookie).
+	 */
+	private static final class UnencodedUrls extends HttpServletResponseWrapper {
+
+		UnencodedUrls(HttpServletResponse response) {
+			super(response);
+		}
+
+		@Override
+		public String encodeURL(String url) {
+			return url;
+		}
+
+		@Override
+		public String encodeRedirectURL(String url) {
+			return url;
+		}
+	}
+}
@@ -0,0 +1,73 @@
+package com.eduproject.controller;
+
+import java.time.Instant;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.eduproject.event.CourseChangedEvent;
+import com.eduproject.event.SeatsChangedEvent;
+
+/**
+ * Version and Last-Modified time of everything the public course pages render,
+ * for conditional GET (ETag / If-None-Match, Last-Modified / If-Modified-Since).
+ *
+ * WHY an in-memory counter instead of max(updatedDate) from the database?
+ * - The whole point is answering 304 without touching the database.
+ * - Seat counts change without touching VERSION or UPDATED_DATE, so the columns
+ *   alone cannot say when a page last changed.
+ *
+ * The counter starts from a random epoch on every boot, so two instances (or one
+ * instance before and after a restart) never hand out the same tag for different
+ * data; a client switching instances just gets one full response.
+ *
+ * WHY after completion rather than after commit?
+ * - It runs after every afterCommit callback, including the cache evictions, so the
+ *   new version is never visible before the commit it stands for.
+ * - That alone does not make data loaded under the new version fresh: a reader that
+ *   loaded before the commit can put its old page back into COURSE_CATALOG after the
+ *   eviction (see CacheConfig). CatalogFragmentCache therefore loads from the database
+ *   and only caches a render if the version it read before loading is still current.
+ * - A rolled-back transaction bumps it too: a needless re-render, never a stale page.
+ */
+@Component
+public class CatalogVersion {
+
+	private final String epoch = Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, 36);
+
+	private final AtomicLong version = new AtomicLong();
+
+	private volatile Instant lastModified = Instant.now();
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+	public void onCourseChanged(CourseChangedEvent event) {
+		// Time first: a reader that sees the new version must not see the old timestamp
+		lastModified = Instant.now();
+		version.incrementAndGet();
+	}
+
+	/**
+	 * The list pages do not show seats, so enrollments leave the catalog version alone
+	 * (and its cached HTML valid); course pages tag the seat count themselves.
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+	public void onSeatsChanged(SeatsChangedEvent event) {
+		lastModified = Instant.now();
+	}
+
+	/** Strong ETag value for the catalog list pages: changes with course content only. */
+	public String catalogTag() {
+		return "catalog-" + epoch + "-" + version.get();
+	}
+
+	/**
+	 * Last change to any course, as epoch millis; an upper bound for every single
+	 * course too. Never earlier than this instance's startup.
+	 */
+	public long lastModified() {
+		return lastModified.toEpochMilli();
+	}
+}
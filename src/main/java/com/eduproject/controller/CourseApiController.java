@@ -0,0 +1,120 @@
+package com.eduproject.controller;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.eduproject.exception.CourseNotFoundException;
+import com.eduproject.model.CoursePage;
+import com.eduproject.model.CourseResponse;
+import com.eduproject.service.CourseService;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.annotation.Timed;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Read-only JSON API over the course catalog, for integration partners.
+ *
+ *   GET /api/courses?after=&before=&size= → one keyset page (same cursors and ordering as /courses)
+ *   GET /api/courses/{id}                 → one course
+ *   GET /api/courses/export               → the whole catalog as a JSON array
+ *       (Accept: application/x-ndjson     → one course per line)
+ *
+ * WHY does the export write to the response itself instead of returning a List?
+ * - A list of the whole catalog is O(courses) heap, twice: once as DTOs and once as
+ *   the serialized body. Here each row goes from the database cursor (see
+ *   CourseService#exportCourses) through Jackson's generator into the response
+ *   buffer and is garbage right after, so heap stays flat at any catalog size.
+ * - It runs on the request thread, not as a StreamingResponseBody: the async
+ *   request timeout would cut off a large export, and the transaction that owns
+ *   the cursor stays on the thread that opened it.
+ *
+ * Errors are application/problem+json rather than the HTML error pages.
+ */
+@RestController
+@Slf4j
+@RequiredArgsConstructor
+@RequestMapping("/api/courses")
+@Timed(value = "edupro.controller", histogram = true, description = "Handler method latency")
+public class CourseApiController {
+
+	public static final String NDJSON = "application/x-ndjson";
+
+	private final CourseService courseService;
+
+	private final ObjectMapper objectMapper;
+
+	@GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+	public CoursePage listCourses(@RequestParam(required = false) String after,
+								  @RequestParam(required = false) String before,
+								  @RequestParam(defaultValue = "" + CourseService.DEFAULT_PAGE_SIZE) int size) {
+		return courseService.getCoursePage(after, before, size);
+	}
+
+	@GetMapping(value = "/{id:\\d+}", produces = MediaType.APPLICATION_JSON_VALUE)
+	public CourseResponse getCourse(@PathVariable Long id) {
+		return courseService.getCourseById(id);
+	}
+
+	@GetMapping(value = "/export", produces = MediaType.APPLICATION_JSON_VALUE)
+	public void exportJson(HttpServletResponse response) throws IOException {
+		export(response, MediaType.APPLICATION_JSON_VALUE, false);
+	}
+
+	@GetMapping(value = "/export", produces = NDJSON)
+	public void exportNdjson(HttpServletResponse response) throws IOException {
+		export(response, NDJSON, true);
+	}
+
+	private void export(HttpServletResponse response, String contentType, boolean lines) throws IOException {
+		log.info("Exporting course catalog as {}", contentType);
+		response.setContentType(contentType);
+		response.setCharacterEncoding("UTF-8");
+		OutputStream body = response.getOutputStream();
+		try (JsonGenerator generator = objectMapper.getFactory().createGenerator(body, JsonEncoding.UTF8)) {
+			// A failed export must not end in "]": a truncated array would parse as complete
+			generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+			if (lines) {
+				generator.setRootValueSeparator(new SerializedString("\n"));
+			} else {
+				generator.writeStartArray();
+			}
+			courseService.exportCourses(course -> {
+				try {
+					generator.writeObject(course);
+				} catch (IOException e) {
+					// Usually the client went away; stop reading the cursor
+					throw new UncheckedIOException(e);
+				}
+			});
+			if (lines) {
+				generator.writeRaw('\n');
+			} else {
+				generator.writeEndArray();
+			}
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+	}
+
+	@ExceptionHandler(CourseNotFoundException.class)
+	public ProblemDetail handleCourseNotFound(CourseNotFoundException ex) {
+		return ProblemDetail.forStatusAndDetail(HttpStatus.NOT_FOUND, ex.getMessage());
+	}
+}
@@ -1,14 +1,24 @@
 package com.eduproject.controller;
 
 
+import com.eduproject.model.BulkEnrollmentResult;
+import com.eduproject.model.CoursePage;
+import com.eduproject.model.CourseSuggestion;
 import com.eduproject.model.CourseResponse;
 import com.eduproject.model.CreateCourseRequest;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
+import com.eduproject.exception.CourseFullException;
 import com.eduproject.exception.CourseNotFoundException;
 import com.eduproject.service.CourseService;
 
@@ -17,43 +27,97 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import java.security.Principal;
+import java.util.Arrays;
+import java.util.List;
 
 /**
  * Handles all course-related web requests.
  *
  * URL Design (RESTful naming):
- *   GET  /courses              → list all courses
+ *   GET  /courses              → list courses (keyset-paginated: ?after= / ?before= cursor, &size=)
  *   GET  /courses/{id}         → view single course
+ *   GET  /courses/search?q=    → ranked full-text search
+ *   GET  /courses/autocomplete?q= → title suggestions (JSON)
  *   GET  /courses/new          → show create form
  *   POST /courses              → handle create
  *   GET  /courses/{id}/edit    → show edit form
  *   POST /courses/{id}         → handle update
  *   POST /courses/{id}/delete  → handle delete
+ *   POST /courses/enroll       → enroll the logged-in user
+ *   POST /courses/{id}/enroll-bulk → enroll a list of usernames (admin)
+ *
+ * CONDITIONAL GET: the list and view pages carry a strong ETag and Last-Modified for
+ * anonymous visitors, and a matching If-None-Match / If-Modified-Since is answered
+ * with 304 before the page is queried or rendered (see {@link #notModified}).
  */
 @Controller
 @Slf4j
 @RequiredArgsConstructor
 @RequestMapping("/courses")
+@Timed(value = "edupro.controller", histogram = true, description = "Handler method latency")
 public class CourseController {
 
     private final CourseService courseService;
 
+    private final CatalogVersion catalogVersion;
+
+    private final CatalogFragmentCache catalogFragmentCache;
+
 	// ==================== LIST ====================
 
 	@GetMapping
-	public String listCourses(Model model) {
-		log.info("Listing all courses");
-		model.addAttribute("courses", courseService.getAllCourses());
+	public String listCourses(@RequestParam(required = false) String after,
+							  @RequestParam(required = false) String before,
+							  @RequestParam(defaultValue = "" + CourseService.DEFAULT_PAGE_SIZE) int size,
+							  Principal principal, ServletWebRequest webRequest,
+							  Model model) {
+		// The ETag is per URL, so one catalog-wide version covers every page and size
+		if (notModified(webRequest, principal, catalogVersion.catalogTag())) {
+			return null;
+		}
+		log.info("Listing courses (after={}, before={}, size={})", after, before, size);
+		if (catalogFragmentCache.isCacheable(webRequest.getRequest())) {
+			model.addAttribute("catalogHtml", catalogFragmentCache.get(after, before, size,
+					webRequest.getRequest(), webRequest.getResponse(),
+					() -> courseService.loadCoursePage(after, before, size)));
+		} else {
+			CoursePage page = courseService.getCoursePage(after, before, size);
+			model.addAttribute("page", page);
+			model.addAttribute("courses", page.getCourses());
+		}
 		model.addAttribute("courseCount", courseService.getCourseCount());
 		return "course/list";
 	}
 
+	// ==================== SEARCH ====================
+
+	@GetMapping("/search")
+	public String searchCourses(@RequestParam(defaultValue = "") String q, Model model) {
+		log.info("Searching courses for '{}'", q);
+		model.addAttribute("query", q);
+		model.addAttribute("courses", courseService.searchCourses(q, CourseService.DEFAULT_PAGE_SIZE));
+		return "course/search";
+	}
+
+	@GetMapping(value = "/autocomplete", produces = MediaType.APPLICATION_JSON_VALUE)
+	@ResponseBody
+	public List<CourseSuggestion> autocomplete(@RequestParam(defaultValue = "") String q) {
+		// No logging here: this runs on every keystroke
+		return courseService.suggestTitles(q, CourseService.SUGGESTION_LIMIT);
+	}
+
 	// ==================== VIEW ====================
 
 	@GetMapping("/{id:\\d+}")
-	public String viewCourse(@PathVariable Long id, Principal principal, Model model) {
+	public String viewCourse(@PathVariable Long id, Principal principal, ServletWebRequest webRequest, Model model) {
+		// Served from the course cache: a repeat visit costs no query and no rendering
+		CourseResponse course = courseService.getCourseById(id);
+		if (notModified(webRequest, principal,
+				"course-" + id + "-" + course.getVersion() + "-" + course.getEnrolledCount())) {
+			return null;
+		}
 		log.info("Viewing course with ID: {}", id);
-		model.addAttribute("course", courseService.getCourseById(id));
+		model.addAttribute("course", course);
 		boolean isEnrolled = principal != null && courseService.isCourseAlreadyEnrolled(id, principal.getName());
 		model.addAttribute("isEnrolled", isEnrolled);
 		return "course/view";
@@ -64,7 +128,7 @@ public class CourseController {
 	@GetMapping("/new")
 	public String showCreateForm(Model model) {
 		log.info("Showing create course form");
-		model.addAttribute("createCourseRequest", new CreateCourseRequest());
+		model.addAttribute("courseDTO", new CreateCourseRequest());
 		model.addAttribute("pageHeading", "Create New Course");
 		model.addAttribute("submitLabel", "Create Course");
 		model.addAttribute("editMode", false);
@@ -92,7 +156,18 @@ public class CourseController {
 			return "course/form";
 		}
 
-		String savedTitle = courseService.createCourse(createCourseRequest);
+		String savedTitle;
+		try {
+			savedTitle = courseService.createCourse(createCourseRequest);
+		} catch (DataIntegrityViolationException e) {
+			// Lost a race with a concurrent create of the same title: the unique constraint caught it
+			log.warn("Duplicate title on create: {}", createCourseRequest.getTitle());
+			bindingResult.rejectValue("title", "duplicate", "Course title already exists");
+			model.addAttribute("pageHeading", "Create New Course");
+			model.addAttribute("submitLabel", "Create Course");
+			model.addAttribute("editMode", false);
+			return "course/form";
+		}
 		redirectAttributes.addFlashAttribute("successMessage", "Course '" + savedTitle + "' created successfully!");
 		return "redirect:/courses";
 	}
@@ -102,7 +177,7 @@ public class CourseController {
 	@GetMapping("/{id}/edit")
 	public String showEditForm(@PathVariable Long id, Model model) {
 		log.info("Showing edit form for course ID: {}", id);
-		model.addAttribute("createCourseRequest", courseService.getCourseById(id));
+		model.addAttribute("courseDTO", courseService.getCourseById(id));
 		model.addAttribute("pageHeading", "Edit Course");
 		model.addAttribute("submitLabel", "Update Course");
 		model.addAttribute("editMode", true);
@@ -141,6 +216,13 @@ public class CourseController {
 		} catch (CourseNotFoundException e) {
 			log.error("Course not found during update: {}", e.getMessage());
 			redirectAttributes.addFlashAttribute("errorMessage", "Course not found. Update failed.");
+		} catch (DataIntegrityViolationException e) {
+			log.warn("Duplicate title on update: {}", createCourseRequest.getTitle());
+			bindingResult.rejectValue("title", "duplicate", "Course title already exists");
+			model.addAttribute("pageHeading", "Edit Course");
+			model.addAttribute("submitLabel", "Update Course");
+			model.addAttribute("editMode", true);
+			return "course/form";
 		}
 
 		return "redirect:/courses";
@@ -185,11 +267,81 @@ public class CourseController {
             return "redirect:/courses/" + courseId;
         }
 
-        courseService.enrollUser(courseId, username);
+        try {
+            courseService.enrollUser(courseId, username);
+        } catch (DataIntegrityViolationException e) {
+            // Lost a race with a concurrent request for the same user (double-click)
+            log.warn("Duplicate enrollment for course {} by {}", courseId, username);
+            redirectAttributes.addFlashAttribute("errorMessage",
+                    "You are already enrolled in this course.");
+            return "redirect:/courses/" + courseId;
+        } catch (CourseFullException e) {
+            log.info("Course {} is full, rejected {}", courseId, username);
+            redirectAttributes.addFlashAttribute("errorMessage",
+                    "Sorry, this course is full.");
+            return "redirect:/courses/" + courseId;
+        }
 
         redirectAttributes.addFlashAttribute("successMessage",
                 "Successfully enrolled in the course.");
 
         return "redirect:/courses/" + courseId;
     }
+
+    // ================== Bulk enroll (admin) ====================
+
+    @PostMapping("/{id}/enroll-bulk")
+    public String enrollBulk(@PathVariable Long id,
+                             @RequestParam("usernames") String usernames,
+                             RedirectAttributes redirectAttributes) {
+        // One username per line; commas, semicolons and spaces also separate
+        BulkEnrollmentResult result;
+        try {
+            result = courseService.enrollUsers(id, Arrays.asList(usernames.split("[\\s,;]+")));
+        } catch (CourseNotFoundException e) {
+            log.error("Course not found for bulk enrollment: {}", e.getMessage());
+            redirectAttributes.addFlashAttribute("errorMessage", "Course not found.");
+            return "redirect:/courses";
+        } catch (CourseFullException e) {
+            log.info("Bulk enrollment rejected: {}", e.getMessage());
+            redirectAttributes.addFlashAttribute("errorMessage",
+                    "Not enough free seats for this cohort. Nobody was enrolled.");
+            return "redirect:/courses/" + id;
+        } catch (DataIntegrityViolationException e) {
+            log.warn("Bulk enrollment for course {} raced a concurrent enrollment", id);
+            redirectAttributes.addFlashAttribute("errorMessage",
+                    "Some students enrolled at the same time. Nobody was enrolled, please retry.");
+            return "redirect:/courses/" + id;
+        }
+
+        log.info("Bulk enrollment for course {}: {}", id, result);
+        String message = "Enrolled " + result.getEnrolled() + " student(s); "
+                + result.getAlreadyEnrolled() + " already enrolled.";
+        if (!result.getUnknownUsernames().isEmpty()) {
+            message += " Unknown usernames: " + String.join(", ", result.getUnknownUsernames());
+        }
+        redirectAttributes.addFlashAttribute("successMessage", message);
+        return "redirect:/courses/" + id;
+    }
+
+    /**
+     * Sets the validators and returns true when the client's copy is still current
+     * (Spring then sends 304 with no body).
+     *
+     * Anonymous visitors only: a logged-in user's page carries their name, enrollment
+     * state and CSRF token, so it is never cached (Spring Security's no-store applies).
+     * "no-cache" lets browsers and shared proxies keep the page but revalidate every time;
+     * Vary: Cookie keeps a proxy from handing the anonymous copy to a logged-in user.
+     *
+     * Last-Modified is the catalog-wide time of the last change: never too early for
+     * any single course, so If-Modified-Since alone cannot yield a stale 304.
+     */
+    private boolean notModified(ServletWebRequest webRequest, Principal principal, String etag) {
+        if (principal != null) {
+            return false;
+        }
+        webRequest.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().cachePublic().getHeaderValue());
+        webRequest.getResponse().setHeader(HttpHeaders.VARY, HttpHeaders.COOKIE);
+        return webRequest.checkNotModified(etag, catalogVersion.lastModified());
+    }
 }
@@ -0,0 +1,77 @@
+package com.eduproject.controller;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.support.RedirectAttributes;
+
+import com.eduproject.exception.InvalidImportFileException;
+import com.eduproject.model.CourseImportResult;
+import com.eduproject.model.ImportFormat;
+import com.eduproject.service.CourseImportService;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bulk course import for admins (see CourseImportService).
+ *
+ *   GET  /courses/import → upload form, and the report of the last import
+ *   POST /courses/import → multipart "file": CSV or NDJSON
+ *
+ * The report travels as a flash attribute (post/redirect/get), so reloading the
+ * page never uploads the file a second time.
+ */
+@Controller
+@Slf4j
+@RequiredArgsConstructor
+@RequestMapping("/courses/import")
+@Timed(value = "edupro.controller", histogram = true, description = "Handler method latency")
+public class CourseImportController {
+
+	private final CourseImportService courseImportService;
+
+	@GetMapping
+	public String showImportForm() {
+		return "course/import";
+	}
+
+	@PostMapping
+	public String importCourses(@RequestParam("file") MultipartFile file, RedirectAttributes redirectAttributes) {
+		ImportFormat format = ImportFormat.of(file.getOriginalFilename(), file.getContentType());
+		if (file.isEmpty() || format == null) {
+			redirectAttributes.addFlashAttribute("errorMessage", "Choose a non-empty .csv or .ndjson file.");
+			return "redirect:/courses/import";
+		}
+
+		CourseImportResult result;
+		try (InputStream input = file.getInputStream()) {
+			result = courseImportService.importCourses(input, format);
+		} catch (InvalidImportFileException e) {
+			redirectAttributes.addFlashAttribute("errorMessage", e.getMessage() + " Nothing was imported.");
+			return "redirect:/courses/import";
+		} catch (DataIntegrityViolationException e) {
+			log.warn("Course import of {} raced a concurrent course change", file.getOriginalFilename());
+			redirectAttributes.addFlashAttribute("errorMessage",
+					"A course with one of these titles was saved at the same time. Nothing was imported, please retry.");
+			return "redirect:/courses/import";
+		} catch (IOException e) {
+			log.error("Course import of {} failed", file.getOriginalFilename(), e);
+			redirectAttributes.addFlashAttribute("errorMessage", "The file could not be read. Nothing was imported.");
+			return "redirect:/courses/import";
+		}
+
+		redirectAttributes.addFlashAttribute("importResult", result);
+		redirectAttributes.addFlashAttribute("successMessage", "Imported " + result.getImported() + " course(s) from "
+				+ result.getRows() + " row(s) in " + result.getElapsedMillis() + " ms.");
+		return "redirect:/courses/import";
+	}
+}
@@ -2,26 +2,21 @@ package com.eduproject.controller;
 
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Controller;
-import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ResponseBody;
 
-import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 
 @Controller
 @Slf4j
 public class HomeController {
 
+	/**
+	 * Public landing page. Must not touch the HTTP session: anonymous visitors and
+	 * crawlers would each get one. The logout message comes from "/?logout".
+	 */
 	@GetMapping("/")
-	public String home(HttpServletRequest request, Model model) {
-		// Transfer logout message from session to model (one-time display)
-		Object logoutMsg = request.getSession().getAttribute("logoutMessage");
-		if (logoutMsg != null) {
-			model.addAttribute("logoutMessage", logoutMsg);
-			request.getSession().removeAttribute("logoutMessage");
-			log.info("Showing logout message on home page");
-		}
+	public String home() {
 		return "home";
 	}
 
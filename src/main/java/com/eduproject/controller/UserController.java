@@ -1,21 +1,24 @@
 package com.eduproject.controller;
 
+import com.eduproject.model.AuthenticatedUser;
 import com.eduproject.model.UserRequest;
 import com.eduproject.model.UserResponse;
 import com.eduproject.service.UserService;
 
+import io.micrometer.core.annotation.Timed;
 import jakarta.validation.Valid;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
-import java.security.Principal;
 import java.util.List;
 
 /**
@@ -41,6 +44,7 @@ import java.util.List;
 @RequiredArgsConstructor
 @Controller
 @RequestMapping("/users")
+@Timed(value = "edupro.controller", histogram = true, description = "Handler method latency")
 public class UserController {
 
     private final UserService userService;
@@ -51,14 +55,12 @@ public class UserController {
 
     /**
      * Redirects authenticated user to their own profile.
-     * Avoids needing principal.id in templates (works with any UserDetails impl).
+     * The id comes from the session principal: no query.
      */
     @GetMapping("/me")
-    public String showCurrentUser(Principal principal) {
-        if (principal == null) return "redirect:/login";
-        Long userId = userService.getUserIdByUsername(principal.getName());
-        if (userId == null) return "redirect:/login";
-        return "redirect:/users/" + userId;
+    public String showCurrentUser(@AuthenticationPrincipal AuthenticatedUser currentUser) {
+        if (currentUser == null) return "redirect:/login";
+        return "redirect:/users/" + currentUser.getId();
     }
 
     @GetMapping("/{id}")
@@ -114,7 +116,15 @@ public class UserController {
             return "user/register";
         }
 
-        String fullName = userService.registerUser(dto);
+        String fullName;
+        try {
+            fullName = userService.registerUser(dto);
+        } catch (DataIntegrityViolationException e) {
+            // Lost a race with a concurrent registration: the unique constraints caught it
+            log.warn("Duplicate username/email on registration: {}", dto.getUsername());
+            bindingResult.reject("duplicate", "Username or email already exists");
+            return "user/register";
+        }
         redirectAttributes.addFlashAttribute("successMessage",
                 "Welcome, " + fullName + "! Your account has been created. Please login.");
         return "redirect:/login";
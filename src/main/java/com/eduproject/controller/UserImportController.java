@@ -0,0 +1,101 @@
+package com.eduproject.controller;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.support.RedirectAttributes;
+
+import com.eduproject.exception.InvalidImportFileException;
+import com.eduproject.model.ImportFormat;
+import com.eduproject.model.UserImportJob;
+import com.eduproject.service.UserImportService;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bulk student import for admins (see UserImportService).
+ *
+ *   GET  /users/import      → upload form, and the last few imports
+ *   POST /users/import      → multipart "file": CSV or NDJSON; starts a background job
+ *   GET  /users/import/{id} → that job's progress and failed rows
+ *
+ * WHY copy the upload to a temp file?
+ * - The multipart file is deleted when the request ends, long before the job has
+ *   hashed every password; the job deletes its copy when it is done.
+ */
+@Controller
+@Slf4j
+@RequiredArgsConstructor
+@RequestMapping("/users/import")
+@Timed(value = "edupro.controller", histogram = true, description = "Handler method latency")
+public class UserImportController {
+
+	private final UserImportService userImportService;
+
+	@GetMapping
+	public String showImportForm(Model model) {
+		model.addAttribute("jobs", userImportService.getRecentJobs());
+		return "user/import";
+	}
+
+	@PostMapping
+	public String importUsers(@RequestParam("file") MultipartFile file, RedirectAttributes redirectAttributes) {
+		ImportFormat format = ImportFormat.of(file.getOriginalFilename(), file.getContentType());
+		if (file.isEmpty() || format == null) {
+			redirectAttributes.addFlashAttribute("errorMessage", "Choose a non-empty .csv or .ndjson file.");
+			return "redirect:/users/import";
+		}
+
+		UserImportJob job;
+		Path copy = null;
+		try {
+			copy = Files.createTempFile("user-import-", "." + format.name().toLowerCase());
+			file.transferTo(copy);
+			job = userImportService.startImport(file.getOriginalFilename(), format, copy);
+		} catch (InvalidImportFileException e) {
+			redirectAttributes.addFlashAttribute("errorMessage", e.getMessage() + " Nothing was imported.");
+			return "redirect:/users/import";
+		} catch (IOException e) {
+			log.error("User import of {} failed", file.getOriginalFilename(), e);
+			deleteQuietly(copy);
+			redirectAttributes.addFlashAttribute("errorMessage", "The file could not be read. Nothing was imported.");
+			return "redirect:/users/import";
+		}
+
+		return "redirect:/users/import/" + job.getId();
+	}
+
+	@GetMapping("/{id:\\d+}")
+	public String showProgress(@PathVariable long id, Model model, RedirectAttributes redirectAttributes) {
+		return userImportService.getJob(id)
+				.map(job -> {
+					model.addAttribute("job", job);
+					return "user/importProgress";
+				})
+				.orElseGet(() -> {
+					redirectAttributes.addFlashAttribute("errorMessage", "Import #" + id + " is no longer on record.");
+					return "redirect:/users/import";
+				});
+	}
+
+	private static void deleteQuietly(Path file) {
+		try {
+			if (file != null) {
+				Files.deleteIfExists(file);
+			}
+		} catch (IOException e) {
+			log.warn("Could not delete user import file {}", file, e);
+		}
+	}
+}
@@ -0,0 +1,38 @@
+package com.eduproject.event;
+
+import com.eduproject.index.CourseDocument;
+import com.eduproject.model.CourseEntity;
+
+/**
+ * Published by CourseServiceImpl whenever a course is created, updated or deleted.
+ *
+ * Listeners that keep derived state (in-memory indexes) use
+ * {@code @TransactionalEventListener}, so they only ever see committed changes:
+ * a rolled-back update never reaches them.
+ *
+ * @param courseId the course that changed, or null when many courses changed at once
+ *                 (bulk import): listeners then reload everything
+ * @param document the course's new content, or null when the course was deleted
+ */
+public record CourseChangedEvent(Long courseId, CourseDocument document) {
+
+	public static CourseChangedEvent saved(CourseEntity entity) {
+		return new CourseChangedEvent(entity.getId(), CourseDocument.of(entity));
+	}
+
+	public static CourseChangedEvent deleted(Long courseId) {
+		return new CourseChangedEvent(courseId, null);
+	}
+
+	public static CourseChangedEvent anyCourse() {
+		return new CourseChangedEvent(null, null);
+	}
+
+	public boolean isAnyCourse() {
+		return courseId == null;
+	}
+
+	public boolean isDeleted() {
+		return courseId != null && document == null;
+	}
+}
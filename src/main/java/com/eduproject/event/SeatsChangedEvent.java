@@ -0,0 +1,22 @@
+package com.eduproject.event;
+
+/**
+ * Published when enrolled-seat counters change outside a course edit: enrollments,
+ * and seats released by deleting a user.
+ *
+ * Separate from CourseChangedEvent because the course's searchable content is
+ * unchanged (the search index does not care), but the rendered pages are not.
+ *
+ * @param courseId the course whose seats changed, or null when several courses may
+ *                 have changed at once (user deletion)
+ */
+public record SeatsChangedEvent(Long courseId) {
+
+	public static SeatsChangedEvent forCourse(Long courseId) {
+		return new SeatsChangedEvent(courseId);
+	}
+
+	public static SeatsChangedEvent anyCourse() {
+		return new SeatsChangedEvent(null);
+	}
+}
@@ -0,0 +1,8 @@
+package com.eduproject.exception;
+
+public class CourseFullException extends RuntimeException {
+
+	public CourseFullException(String message) {
+		super(message);
+	}
+}
@@ -1,11 +1,13 @@
 package com.eduproject.exception;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.servlet.resource.NoResourceFoundException;
 
@@ -43,6 +45,15 @@ public class GlobalExceptionHandler {
 		return "error/404";
 	}
 
+	@ExceptionHandler(PasswordHashingBusyException.class)
+	@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+	public String handlePasswordHashingBusy(PasswordHashingBusyException ex, HttpServletResponse response, Model model) {
+		log.warn("Password hashing saturated: {}", ex.getMessage());
+		response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfter().toSeconds()));
+		model.addAttribute("errorMessage", ex.getMessage());
+		return "error/503";
+	}
+
 	@ExceptionHandler(Exception.class)
 	@ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
 	public String handleGeneralException(Exception ex, Model model) {
@@ -0,0 +1,9 @@
+package com.eduproject.exception;
+
+/** The uploaded file cannot be read at all (unsupported format, missing CSV columns). */
+public class InvalidImportFileException extends RuntimeException {
+
+	public InvalidImportFileException(String message) {
+		super(message);
+	}
+}
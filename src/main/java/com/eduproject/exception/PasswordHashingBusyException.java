@@ -0,0 +1,25 @@
+package com.eduproject.exception;
+
+import java.time.Duration;
+
+import org.springframework.security.authentication.AuthenticationServiceException;
+
+/**
+ * The password-hashing pool is saturated: answered with 503 + Retry-After.
+ *
+ * An AuthenticationException so that, thrown during form login, it reaches the
+ * login failure handler instead of escaping the security filter chain as a 500.
+ */
+public class PasswordHashingBusyException extends AuthenticationServiceException {
+
+	private final Duration retryAfter;
+
+	public PasswordHashingBusyException(Duration retryAfter) {
+		super("Too many logins and registrations right now. Please try again in a few seconds.");
+		this.retryAfter = retryAfter;
+	}
+
+	public Duration getRetryAfter() {
+		return retryAfter;
+	}
+}
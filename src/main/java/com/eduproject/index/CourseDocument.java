@@ -0,0 +1,14 @@
+package com.eduproject.index;
+
+import com.eduproject.model.CourseEntity;
+
+/**
+ * The searchable text of one course, detached from JPA so the in-memory indexes
+ * never hold entities (or their lazy associations).
+ */
+public record CourseDocument(Long id, String title, String description, String instructor) {
+
+	public static CourseDocument of(CourseEntity entity) {
+		return new CourseDocument(entity.getId(), entity.getTitle(), entity.getDescription(), entity.getInstructor());
+	}
+}
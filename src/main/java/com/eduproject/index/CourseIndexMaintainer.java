@@ -0,0 +1,71 @@
+package com.eduproject.index;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.eduproject.event.CourseChangedEvent;
+import com.eduproject.repository.CourseRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps the in-memory course indexes in step with COURSES.
+ *
+ * - Startup: one full build, after the CommandLineRunners (DataSeeder) have run.
+ *   Courses are read as id/text projections in primary-key batches, so no entities
+ *   are hydrated and each batch is a PK range seek.
+ * - Afterwards: incremental updates from CourseChangedEvent, applied only after the
+ *   publishing transaction commits. A bulk import publishes one event for all its
+ *   courses (CourseChangedEvent.anyCourse()), which triggers a full rebuild instead.
+ *
+ * Both methods are synchronized: an update that commits while the build is still
+ * reading waits and is applied on top of the build, instead of being overwritten by it.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class CourseIndexMaintainer {
+
+	static final int REBUILD_BATCH_SIZE = 1000;
+
+	private final CourseRepository courseRepository;
+	private final CourseSearchIndex searchIndex;
+	private final CourseTitleIndex titleIndex;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public synchronized void rebuild() {
+		long start = System.nanoTime();
+		List<CourseDocument> courses = new ArrayList<>();
+		Limit batch = Limit.of(REBUILD_BATCH_SIZE);
+		List<CourseDocument> rows = courseRepository.findDocumentsAfter(0L, batch);
+		while (!rows.isEmpty()) {
+			courses.addAll(rows);
+			rows = rows.size() < REBUILD_BATCH_SIZE ? List.of()
+					: courseRepository.findDocumentsAfter(rows.get(rows.size() - 1).id(), batch);
+		}
+		searchIndex.replaceAll(courses);
+		titleIndex.replaceAll(courses);
+		log.info("Indexed {} courses in {} ms", courses.size(), (System.nanoTime() - start) / 1_000_000);
+	}
+
+	// fallbackExecution: still applied if a change is ever published outside a transaction
+	@TransactionalEventListener(fallbackExecution = true)
+	public synchronized void onCourseChanged(CourseChangedEvent event) {
+		if (event.isAnyCourse()) {
+			rebuild();
+		} else if (event.isDeleted()) {
+			searchIndex.remove(event.courseId());
+			titleIndex.remove(event.courseId());
+		} else {
+			searchIndex.index(event.document());
+			titleIndex.put(event.courseId(), event.document().title());
+		}
+	}
+}
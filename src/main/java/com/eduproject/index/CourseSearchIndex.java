@@ -0,0 +1,255 @@
+package com.eduproject.index;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory inverted index over course title, description and instructor.
+ *
+ * WHY not {@code LIKE '%term%'} in SQL?
+ * - A leading wildcard cannot use a B-tree index, so every keystroke scans COURSES.
+ * - Here a query is a few map lookups: term → postings (courseId → weight).
+ *
+ * RANKING (tf-idf style): a term weighs {@value #TITLE_WEIGHT} in the title,
+ * {@value #INSTRUCTOR_WEIGHT} in the instructor and {@value #DESCRIPTION_WEIGHT} in the
+ * description, multiplied by its inverse document frequency, so rare words count more.
+ * Every query term must match (AND). The last term also matches as a prefix, so
+ * results show up while the user is still typing ("spr" finds "Spring").
+ *
+ * CONCURRENCY: one ReentrantReadWriteLock. Searches share the read lock; the rare
+ * writes (a course saved or deleted, a full rebuild) take the write lock.
+ *
+ * Kept in sync by CourseIndexMaintainer; this class knows nothing about JPA.
+ */
+@Component
+public class CourseSearchIndex {
+
+	static final int TITLE_WEIGHT = 3;
+	static final int INSTRUCTOR_WEIGHT = 2;
+	static final int DESCRIPTION_WEIGHT = 1;
+
+	private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	/** term → (courseId → weighted term frequency). Sorted, so a prefix is a subMap range. */
+	private final NavigableMap<String, Map<Long, Integer>> postings = new TreeMap<>();
+
+	/** courseId → its terms: re-indexing or removing a course touches only its own postings. */
+	private final Map<Long, Set<String>> termsByCourse = new HashMap<>();
+
+	/** Adds the course, or replaces its previous content. */
+	public void index(CourseDocument course) {
+		Map<String, Integer> weights = weigh(course);
+		lock.writeLock().lock();
+		try {
+			removeLocked(course.id());
+			addLocked(course.id(), weights);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	public void remove(Long courseId) {
+		lock.writeLock().lock();
+		try {
+			removeLocked(courseId);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/** Swaps the whole content in one write-locked step (startup / full rebuild). */
+	public void replaceAll(Collection<CourseDocument> courses) {
+		List<Map<String, Integer>> weights = new ArrayList<>(courses.size());
+		courses.forEach(course -> weights.add(weigh(course)));
+		lock.writeLock().lock();
+		try {
+			postings.clear();
+			termsByCourse.clear();
+			int i = 0;
+			for (CourseDocument course : courses) {
+				addLocked(course.id(), weights.get(i++));
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	public int size() {
+		lock.readLock().lock();
+		try {
+			return termsByCourse.size();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * @return ids of the best-matching courses, highest score first (ties by id), at most {@code limit}
+	 */
+	public List<Long> search(String query, int limit) {
+		List<String> terms = tokenize(query);
+		if (terms.isEmpty() || limit <= 0) {
+			return List.of();
+		}
+		lock.readLock().lock();
+		try {
+			int courseCount = termsByCourse.size();
+			List<TermMatch> matches = new ArrayList<>(terms.size());
+			for (int i = 0; i < terms.size(); i++) {
+				TermMatch match = match(terms.get(i), i == terms.size() - 1, courseCount);
+				if (match.size == 0) {
+					return List.of();
+				}
+				matches.add(match);
+			}
+
+			// Drive from the rarest term and score each candidate once (no per-term score maps);
+			// a bounded heap keeps only the best `limit` hits instead of sorting every match.
+			TermMatch driver = matches.stream().min(Comparator.comparingInt(m -> m.size)).orElseThrow();
+			PriorityQueue<Hit> best = new PriorityQueue<>(limit + 1, Hit.WORST_FIRST);
+			candidates:
+			for (Long courseId : driver.courseIds()) {
+				double score = 0;
+				for (TermMatch match : matches) {
+					double termScore = match.score(courseId);
+					if (termScore < 0) {
+						continue candidates;
+					}
+					score += termScore;
+				}
+				Hit hit = new Hit(courseId, score);
+				if (best.size() < limit) {
+					best.add(hit);
+				} else if (Hit.WORST_FIRST.compare(hit, best.peek()) > 0) {
+					best.poll();
+					best.add(hit);
+				}
+			}
+
+			Long[] ids = new Long[best.size()];
+			for (int i = ids.length - 1; i >= 0; i--) {
+				ids[i] = best.poll().courseId();
+			}
+			return List.of(ids);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/** Lower-cased letter/digit runs; shared by indexing and querying so both agree on terms. */
+	static List<String> tokenize(String text) {
+		if (text == null || text.isBlank()) {
+			return List.of();
+		}
+		List<String> terms = new ArrayList<>();
+		for (String term : NON_WORD.split(text.toLowerCase(Locale.ROOT))) {
+			if (!term.isEmpty()) {
+				terms.add(term);
+			}
+		}
+		return terms;
+	}
+
+	private TermMatch match(String term, boolean prefix, int courseCount) {
+		Collection<Map<Long, Integer>> postingLists;
+		if (prefix) {
+			postingLists = postings.subMap(term, true, term + Character.MAX_VALUE, false).values();
+		} else {
+			Map<Long, Integer> exact = postings.get(term);
+			postingLists = exact == null ? List.of() : List.of(exact);
+		}
+		return new TermMatch(new ArrayList<>(postingLists), courseCount);
+	}
+
+	/** One query term: its posting list, or all of them when it is a prefix. */
+	private static final class TermMatch {
+
+		private final List<Map<Long, Integer>> postingLists;
+		private final double[] idf;
+		private final int size;
+
+		TermMatch(List<Map<Long, Integer>> postingLists, int courseCount) {
+			this.postingLists = postingLists;
+			this.idf = new double[postingLists.size()];
+			int total = 0;
+			for (int i = 0; i < idf.length; i++) {
+				int documentFrequency = postingLists.get(i).size();
+				idf[i] = Math.log(1 + (double) courseCount / documentFrequency);
+				total += documentFrequency;
+			}
+			this.size = total;
+		}
+
+		Collection<Long> courseIds() {
+			if (postingLists.size() == 1) {
+				return postingLists.get(0).keySet();
+			}
+			Set<Long> ids = new HashSet<>(size);
+			postingLists.forEach(list -> ids.addAll(list.keySet()));
+			return ids;
+		}
+
+		/** Weight x idf; a course matching several expansions of a prefix counts its best one. -1 = no match. */
+		double score(Long courseId) {
+			double best = -1;
+			for (int i = 0; i < idf.length; i++) {
+				Integer weight = postingLists.get(i).get(courseId);
+				if (weight != null) {
+					best = Math.max(best, weight * idf[i]);
+				}
+			}
+			return best;
+		}
+	}
+
+	private record Hit(Long courseId, double score) {
+
+		/** Lowest score first, then highest id: the head of the heap is the hit to drop. */
+		static final Comparator<Hit> WORST_FIRST = Comparator.comparingDouble(Hit::score)
+				.thenComparing(Hit::courseId, Comparator.reverseOrder());
+	}
+
+	private static Map<String, Integer> weigh(CourseDocument course) {
+		Map<String, Integer> weights = new HashMap<>();
+		tokenize(course.title()).forEach(term -> weights.merge(term, TITLE_WEIGHT, Integer::sum));
+		tokenize(course.instructor()).forEach(term -> weights.merge(term, INSTRUCTOR_WEIGHT, Integer::sum));
+		tokenize(course.description()).forEach(term -> weights.merge(term, DESCRIPTION_WEIGHT, Integer::sum));
+		return weights;
+	}
+
+	private void addLocked(Long courseId, Map<String, Integer> weights) {
+		weights.forEach((term, weight) -> postings.computeIfAbsent(term, t -> new HashMap<>()).put(courseId, weight));
+		termsByCourse.put(courseId, weights.keySet());
+	}
+
+	private void removeLocked(Long courseId) {
+		Set<String> terms = termsByCourse.remove(courseId);
+		if (terms == null) {
+			return;
+		}
+		for (String term : terms) {
+			Map<Long, Integer> courses = postings.get(term);
+			courses.remove(courseId);
+			if (courses.isEmpty()) {
+				postings.remove(term);
+			}
+		}
+	}
+}
@@ -0,0 +1,266 @@
+package com.eduproject.index;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.eduproject.repository.UserRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bloom filters over every username and email: a "definitely not taken" answer
+ * for registration/edit uniqueness checks without a database round trip.
+ *
+ * Only a filter hit ("might exist") goes on to the database, so bots probing
+ * random names and students picking a fresh username cost no query.
+ *
+ * NO FALSE NEGATIVES is the invariant everything here protects:
+ * - UserServiceImpl adds a new user's keys BEFORE its transaction commits. A rollback
+ *   leaves a harmless extra bit; the reverse order would leave a window where a taken
+ *   name looks free.
+ * - A rebuild (startup, or when the filter is over capacity / full of deleted users)
+ *   builds a fresh filter while adds keep going into both the old and the new one.
+ * - An add made just BEFORE a rebuild starts may belong to a transaction that commits
+ *   after the rebuild's scan has passed that user's id. So adds stay "open" until their
+ *   transaction completes: one completing during a rebuild is replayed into the new
+ *   filter, and those still open at the swap are copied into it there.
+ * - Until the first build finishes every check goes to the database.
+ *
+ * Deletes and email changes cannot clear bits; they only raise the false-positive
+ * rate, which triggers a background rebuild once stale entries pass 10% of capacity.
+ *
+ * Metrics (/actuator/metrics), tagged field=username|email:
+ *   edupro.bloom.checks{result=negative|true_positive|false_positive}
+ *   edupro.bloom.false.positive.rate   observed: false positives / all absent values checked
+ *   edupro.bloom.expected.fpp          theoretical, from the fill ratio of the bit array
+ */
+@Component
+@Slf4j
+public class UserExistenceFilter {
+
+	public enum Field { USERNAME, EMAIL }
+
+	static final int REBUILD_BATCH_SIZE = 1000;
+
+	private final UserRepository userRepository;
+	private final Executor rebuildExecutor;
+	private final long expectedUsers;
+	private final double fpp;
+
+	private final Map<Field, Counter> negatives = new EnumMap<>(Field.class);
+	private final Map<Field, Counter> truePositives = new EnumMap<>(Field.class);
+	private final Map<Field, Counter> falsePositives = new EnumMap<>(Field.class);
+
+	private final AtomicBoolean rebuildRunning = new AtomicBoolean();
+	private final AtomicLong insertions = new AtomicLong();
+	private final AtomicLong staleEntries = new AtomicLong();
+
+	/** null until the first build: every check falls through to the database. */
+	private volatile Filters filters;
+
+	/** Filters being built; also receives every add() while the build runs. Guarded by this. */
+	private Filters rebuilding;
+
+	/** Keys added by transactions that have not completed yet. Guarded by this. */
+	private final List<Keys> openAdds = new ArrayList<>();
+
+	/**
+	 * @param rebuildExecutor runs background rebuilds (blocking JDBC), so not the common
+	 *                        ForkJoinPool: Boot's application task executor
+	 */
+	public UserExistenceFilter(UserRepository userRepository, MeterRegistry meterRegistry,
+			@Qualifier("applicationTaskExecutor") Executor rebuildExecutor,
+			@Value("${edupro.bloom.expected-users}") long expectedUsers,
+			@Value("${edupro.bloom.fpp}") double fpp) {
+		this.userRepository = userRepository;
+		this.rebuildExecutor = rebuildExecutor;
+		this.expectedUsers = expectedUsers;
+		this.fpp = fpp;
+
+		for (Field field : Field.values()) {
+			String tag = field.name().toLowerCase();
+			negatives.put(field, checks(meterRegistry, tag, "negative"));
+			truePositives.put(field, checks(meterRegistry, tag, "true_positive"));
+			falsePositives.put(field, checks(meterRegistry, tag, "false_positive"));
+			Gauge.builder("edupro.bloom.false.positive.rate", this, f -> f.observedFalsePositiveRate(field))
+					.tag("field", tag)
+					.description("False positives / all absent values checked")
+					.register(meterRegistry);
+			Gauge.builder("edupro.bloom.expected.fpp", this, f -> f.expectedFpp(field))
+					.tag("field", tag)
+					.description("Theoretical false-positive probability at the current fill ratio")
+					.register(meterRegistry);
+		}
+	}
+
+	/**
+	 * Full uniqueness check: the filter first, the database only on a filter hit.
+	 *
+	 * @param database the authoritative exists-query for this field
+	 */
+	public boolean exists(Field field, String value, Predicate<String> database) {
+		if (!mightContain(field, value)) {
+			negatives.get(field).increment();
+			return false;
+		}
+		boolean exists = database.test(value);
+		(exists ? truePositives : falsePositives).get(field).increment();
+		return exists;
+	}
+
+	/** false = definitely nobody has this value; true = ask the database. */
+	public boolean mightContain(Field field, String value) {
+		Filters current = filters;
+		return value == null || current == null || current.of(field).mightContain(value);
+	}
+
+	/** Must be called before the transaction creating the user commits (see class comment). */
+	public void add(String username, String email) {
+		Keys keys = new Keys(username, email);
+		boolean overCapacity;
+		synchronized (this) {
+			if (filters != null) {
+				filters.put(keys);
+			}
+			if (rebuilding != null) {
+				rebuilding.put(keys);
+			}
+			if (TransactionSynchronizationManager.isSynchronizationActive()) {
+				openAdds.add(keys);
+				TransactionSynchronization completion = new TransactionSynchronization() {
+					@Override
+					public void afterCompletion(int status) {
+						completed(keys);
+					}
+				};
+				TransactionSynchronizationManager.registerSynchronization(completion);
+			}
+			overCapacity = filters != null && insertions.incrementAndGet() > filters.capacity();
+		}
+		if (overCapacity) {
+			rebuildInBackground("over capacity");
+		}
+	}
+
+	/**
+	 * The add's transaction committed or rolled back. A rebuild that started before the
+	 * add may have scanned past the user before the commit, so it gets the keys here.
+	 */
+	private synchronized void completed(Keys keys) {
+		openAdds.remove(keys);
+		if (rebuilding != null) {
+			rebuilding.put(keys);
+		}
+	}
+
+	/** A user was deleted or changed their email: their old bits stay set. */
+	public void recordStaleEntry() {
+		Filters current = filters;
+		if (current != null && staleEntries.incrementAndGet() > current.capacity() / 10) {
+			rebuildInBackground("too many stale entries");
+		}
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void rebuild() {
+		if (!rebuildRunning.compareAndSet(false, true)) {
+			return;
+		}
+		try {
+			long start = System.nanoTime();
+			long capacity = Math.max(expectedUsers, userRepository.count() * 2);
+			Filters fresh = new Filters(BloomFilter.create(capacity, fpp), BloomFilter.create(capacity, fpp), capacity);
+			synchronized (this) {
+				rebuilding = fresh;
+			}
+
+			long loaded = 0;
+			Limit batch = Limit.of(REBUILD_BATCH_SIZE);
+			List<UserRepository.UserKeys> rows = userRepository.findKeysAfter(0L, batch);
+			while (!rows.isEmpty()) {
+				rows.forEach(row -> fresh.put(new Keys(row.getUsername(), row.getEmail())));
+				loaded += rows.size();
+				rows = rows.size() < REBUILD_BATCH_SIZE ? List.of()
+						: userRepository.findKeysAfter(rows.get(rows.size() - 1).getId(), batch);
+			}
+
+			synchronized (this) {
+				// Still uncommitted: the scan could not see them, and completed() comes too late
+				openAdds.forEach(fresh::put);
+				filters = fresh;
+				rebuilding = null;
+				insertions.set(loaded);
+				staleEntries.set(0);
+			}
+			log.info("Built username/email Bloom filters: {} users, capacity {}, {} bits x {} hashes each, in {} ms",
+					loaded, capacity, fresh.usernames().bitSize(), fresh.usernames().hashFunctions(),
+					(System.nanoTime() - start) / 1_000_000);
+		} finally {
+			rebuildRunning.set(false);
+		}
+	}
+
+	private void rebuildInBackground(String reason) {
+		if (!rebuildRunning.get()) {
+			log.info("Rebuilding user Bloom filters: {}", reason);
+			CompletableFuture.runAsync(this::rebuild, rebuildExecutor)
+					.exceptionally(e -> {
+						log.error("User Bloom filter rebuild failed; keeping the current filters", e);
+						return null;
+					});
+		}
+	}
+
+	private double observedFalsePositiveRate(Field field) {
+		double falsePositiveCount = falsePositives.get(field).count();
+		double absentChecked = falsePositiveCount + negatives.get(field).count();
+		return absentChecked == 0 ? 0 : falsePositiveCount / absentChecked;
+	}
+
+	private double expectedFpp(Field field) {
+		Filters current = filters;
+		return current == null ? Double.NaN : current.of(field).expectedFpp();
+	}
+
+	private static Counter checks(MeterRegistry registry, String field, String result) {
+		return Counter.builder("edupro.bloom.checks")
+				.tag("field", field)
+				.tag("result", result)
+				.description("Uniqueness checks answered by the Bloom filter (negative) or the database")
+				.register(registry);
+	}
+
+	private record Keys(String username, String email) {
+	}
+
+	private record Filters(BloomFilter usernames, BloomFilter emails, long capacity) {
+
+		void put(Keys keys) {
+			usernames.put(keys.username());
+			emails.put(keys.email());
+		}
+
+		BloomFilter of(Field field) {
+			return field == Field.USERNAME ? usernames : emails;
+		}
+	}
+}
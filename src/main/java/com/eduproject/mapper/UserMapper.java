@@ -0,0 +1,34 @@
+package com.eduproject.mapper;
+
+import com.eduproject.model.UserEntity;
+import com.eduproject.model.UserResponse;
+
+/**
+ * UserEntity → UserResponse mapping, used by the profile page and the admin user list.
+ *
+ * WHY a static mapper instead of a private method in UserServiceImpl?
+ * - Same reason as CourseMapper: it is a pure function of the entity, so it can be
+ *   unit-tested and benchmarked (UserServiceBenchmark) without a Spring context.
+ */
+public final class UserMapper {
+
+	private static final String NEVER_UPDATED = "Never Updated";
+
+	private UserMapper() {
+	}
+
+	public static UserResponse toResponse(UserEntity user) {
+		return UserResponse.builder()
+				.id(user.getId())
+				.username(user.getUsername())
+				.firstName(user.getFirstName())
+				.lastName(user.getLastName())
+				.email(user.getEmail())
+				.fullName(user.getFullName())
+				.createdAt(user.getCreatedAt().toString())
+				.lastUpdatedAt(user.getUpdatedAt() == null ? NEVER_UPDATED : user.getUpdatedAt().toString())
+				.role(user.getRole().toString())
+				.isActive(user.isEnabled())
+				.build();
+	}
+}
@@ -0,0 +1,69 @@
+package com.eduproject.model;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.security.core.CredentialsContainer;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * The principal stored in an authenticated session: id, username, role, enabled.
+ *
+ * WHY not UserEntity?
+ * - The principal lives in the HTTP session for its whole lifetime. UserEntity drags
+ *   along the password hash, names, email, timestamps and version counter that no
+ *   request reads from the session.
+ * - Carrying the id lets /users/me redirect without a query.
+ *
+ * The password is only present between loading and verification: Spring Security
+ * calls {@link #eraseCredentials()} after a successful login, so none is kept in
+ * the session. Every other field is final.
+ */
+@Getter
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@ToString(exclude = "password")
+public final class AuthenticatedUser implements UserDetails, CredentialsContainer {
+
+	private static final long serialVersionUID = 1L;
+
+	private final Long id;
+
+	// Equal by username, like Spring's User: session registries compare principals
+	@EqualsAndHashCode.Include
+	private final String username;
+
+	private final Role role;
+
+	private final boolean enabled;
+
+	private String password;
+
+	private AuthenticatedUser(Long id, String username, Role role, boolean enabled, String password) {
+		this.id = id;
+		this.username = username;
+		this.role = role;
+		this.enabled = enabled;
+		this.password = password;
+	}
+
+	/** A new instance per login: credentials are erased on the instance that authenticated. */
+	public static AuthenticatedUser from(UserAccount account) {
+		return new AuthenticatedUser(account.id(), account.username(), account.role(), account.enabled(), account.password());
+	}
+
+	@Override
+	public Collection<? extends GrantedAuthority> getAuthorities() {
+		return List.of(new SimpleGrantedAuthority("ROLE_" + role));
+	}
+
+	@Override
+	public void eraseCredentials() {
+		this.password = null;
+	}
+}
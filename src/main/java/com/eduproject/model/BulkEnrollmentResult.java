@@ -0,0 +1,25 @@
+package com.eduproject.model;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Outcome of CourseService.enrollUsers(): how many of the requested (distinct)
+ * usernames were enrolled, skipped as already enrolled, or not found.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class BulkEnrollmentResult {
+
+	private final int requested;
+
+	private final int enrolled;
+
+	private final int alreadyEnrolled;
+
+	private final List<String> unknownUsernames;
+}
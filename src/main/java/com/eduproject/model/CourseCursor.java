@@ -0,0 +1,54 @@
+package com.eduproject.model;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Position of a row in the catalog ordering (title ASC, id ASC).
+ *
+ * Encoded as URL-safe Base64 of "id:title" so it can travel in a query string
+ * without leaking the ordering details into templates. Title comes last
+ * because it may itself contain ':'.
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class CourseCursor {
+
+	private final String title;
+
+	private final Long id;
+
+	public static CourseCursor of(CourseEntity entity) {
+		return new CourseCursor(entity.getTitle(), entity.getId());
+	}
+
+	public String encode() {
+		String raw = id + ":" + title;
+		return Base64.getUrlEncoder().withoutPadding()
+				.encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Returns null for blank or tampered cursors; callers fall back to the first page.
+	 */
+	public static CourseCursor decode(String cursor) {
+		if (cursor == null || cursor.isBlank()) {
+			return null;
+		}
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			int separator = raw.indexOf(':');
+			if (separator <= 0) {
+				return null;
+			}
+			return new CourseCursor(raw.substring(separator + 1), Long.valueOf(raw.substring(0, separator)));
+		} catch (IllegalArgumentException e) {
+			return null;
+		}
+	}
+}
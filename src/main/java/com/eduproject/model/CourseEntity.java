@@ -2,9 +2,9 @@ package com.eduproject.model;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
-import java.util.List;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -20,18 +20,36 @@ import lombok.Setter;
  * Uses @Version for optimistic locking (prevents concurrent update conflicts).
  * Uses @CreationTimestamp / @UpdateTimestamp for automatic audit fields.
  * Uses @SequenceGenerator for Oracle-compatible ID generation (H2 also supports sequences).
+ * The sequence is pooled: one round trip hands out {@value #ID_ALLOCATION_SIZE} ids, so
+ * inserts are not each preceded by a sequence call and can go out as one JDBC batch
+ * (hibernate.jdbc.batch_size). An existing database needs its sequence altered to the
+ * same INCREMENT BY, or Hibernate refuses to start.
+ * Composite index on (title, id) serves the keyset-paginated catalog.
+ * Enrollments live in their own table (see EnrollmentEntity), not in a collection here.
+ *
+ * SEATS: enrolledCount is owned by CourseRepository.reserveSeat()/releaseSeatsHeldBy(),
+ * which change it with a single conditional UPDATE. It is updatable = false so a
+ * concurrent admin edit (a full-row UPDATE of this entity) can never write back a
+ * stale count, and seat reservations never bump @Version -- enrolling does not
+ * make an open edit form fail with an optimistic-lock conflict.
  */
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "COURSES")
+@Table(name = "COURSES", indexes = {
+		// Backs the keyset-paginated catalog (ORDER BY title, id)
+		@Index(name = "IDX_COURSES_TITLE_ID", columnList = "COURSE_TITLE, id")
+})
 @Builder
 public class CourseEntity {
 
+	/** Ids per sequence call; matches hibernate.jdbc.batch_size. */
+	public static final int ID_ALLOCATION_SIZE = 50;
+
 	@Id
-	@SequenceGenerator(allocationSize = 1, initialValue = 1_00_000, name = "SEQ_COURSE", sequenceName = "SEQ_COURSE")
+	@SequenceGenerator(allocationSize = ID_ALLOCATION_SIZE, initialValue = 1_00_000, name = "SEQ_COURSE", sequenceName = "SEQ_COURSE")
 	@GeneratedValue(generator = "SEQ_COURSE", strategy = GenerationType.SEQUENCE)
 	private Long id;
 
@@ -50,8 +68,13 @@ public class CourseEntity {
 	@Column(name = "COURSE_FEES")
 	private BigDecimal fees;
 
-    @OneToMany(fetch = FetchType.LAZY)
-    private List<UserEntity> enrolledUsers;
+	/** Maximum number of enrolled students; null means unlimited. */
+	@Column(name = "COURSE_CAPACITY")
+	private Integer capacity;
+
+	@ColumnDefault("0")
+	@Column(name = "ENROLLED_COUNT", nullable = false, updatable = false)
+	private int enrolledCount;
 
 	@Version
 	@Column(name = "VERSION")
@@ -0,0 +1,35 @@
+package com.eduproject.model;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Outcome of CourseImportService.importCourses(): how many data rows were read and
+ * what happened to them. Only the first few rejected rows are described in
+ * {@code errors}; {@code invalid} counts all of them.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class CourseImportResult {
+
+	private final int rows;
+
+	private final int imported;
+
+	/** Titles already in the catalog, or repeated earlier in the same file. */
+	private final int duplicates;
+
+	private final int invalid;
+
+	private final List<String> errors;
+
+	private final long elapsedMillis;
+
+	public long getRowsPerSecond() {
+		return elapsedMillis == 0 ? rows * 1000L : rows * 1000L / elapsedMillis;
+	}
+}
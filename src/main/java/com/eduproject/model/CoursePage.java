@@ -0,0 +1,40 @@
+package com.eduproject.model;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * One keyset-paginated slice of the course catalog.
+ *
+ * WHY cursors instead of page numbers?
+ * 1. OFFSET n makes the database walk and discard n rows, so page 500 costs
+ *    500x page 1. A cursor ("after title X / id Y") is a single index seek.
+ * 2. Inserts/deletes between clicks don't shift rows onto the wrong page.
+ *
+ * Cursors are opaque strings (see CourseCursor) -- templates only pass them back.
+ * A null cursor means there is no page in that direction.
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class CoursePage {
+
+	private final List<CourseResponse> courses;
+
+	private final String previousCursor;
+
+	private final String nextCursor;
+
+	private final int size;
+
+	public boolean hasPrevious() {
+		return previousCursor != null;
+	}
+
+	public boolean hasNext() {
+		return nextCursor != null;
+	}
+}
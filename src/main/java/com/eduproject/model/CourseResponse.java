@@ -6,6 +6,7 @@ import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
 
@@ -14,6 +15,7 @@ import java.math.BigDecimal;
 @Getter
 @ToString
 @Setter
+@NoArgsConstructor
 public class CourseResponse {
 
     private Long id;
@@ -33,4 +35,35 @@ public class CourseResponse {
     private BigDecimal fees;
 
     private String instructor;
+
+    /** null means unlimited */
+    private Integer capacity;
+
+    private int enrolledCount;
+
+    /** The entity's @Version; with enrolledCount, identifies what the course page shows (ETag). */
+    private Integer version;
+
+    /** JPQL constructor projection (CourseRepository.streamAllForExport); argument order is the query's. */
+    public CourseResponse(Long id, String title, String description, Integer durationInHours, BigDecimal fees,
+                          String instructor, Integer capacity, int enrolledCount, Integer version) {
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        this.durationInHours = durationInHours;
+        this.fees = fees;
+        this.instructor = instructor;
+        this.capacity = capacity;
+        this.enrolledCount = enrolledCount;
+        this.version = version;
+    }
+
+    /** Free seats, or null when the course has no capacity limit. */
+    public Integer getSeatsRemaining() {
+        return capacity == null ? null : Math.max(0, capacity - enrolledCount);
+    }
+
+    public boolean isFull() {
+        return capacity != null && enrolledCount >= capacity;
+    }
 }
@@ -0,0 +1,7 @@
+package com.eduproject.model;
+
+/**
+ * One autocomplete entry, serialized as {@code {"id": 1, "title": "..."}}.
+ */
+public record CourseSuggestion(Long id, String title) {
+}
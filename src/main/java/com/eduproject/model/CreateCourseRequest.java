@@ -49,4 +49,14 @@ public class CreateCourseRequest {
 	private BigDecimal fees;
 
 	private String instructor;
+
+	/** Seat limit; leave empty for unlimited. */
+	@Min(value = 1, message = "Capacity must be at least 1 seat")
+	private Integer capacity;
+
+	/** Course without a seat limit. */
+	public CreateCourseRequest(Long id, String title, String description, Integer durationInHours,
+			BigDecimal fees, String instructor) {
+		this(id, title, description, durationInHours, fees, instructor, null);
+	}
 }
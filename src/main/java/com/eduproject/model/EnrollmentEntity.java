@@ -0,0 +1,91 @@
+package com.eduproject.model;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.CreationTimestamp;
+import org.springframework.data.domain.Persistable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.MapsId;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * JPA entity linking a user to a course they enrolled in.
+ *
+ * WHY a separate entity instead of CourseEntity.enrolledUsers?
+ * - The old unidirectional @OneToMany had to load EVERY enrolled user to answer
+ *   "is this user enrolled?" -- 20k rows for a 20k-student course.
+ * - With its own table and a (COURSE_ID, USER_ID) primary key, membership is a
+ *   single indexed existence query, independent of class size.
+ * - Room for enrollment data (enrolledAt today; status/grade later).
+ *
+ * @MapsId: the key columns double as the foreign keys to COURSES and users.
+ *
+ * WHY Persistable?
+ * - The id is assigned by us, not generated, so Spring Data's save() would treat
+ *   a new enrollment as existing and call merge(): a SELECT before every INSERT.
+ * - isNew() tells save() to persist() directly, so enrolling is exactly one INSERT.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "ENROLLMENTS", indexes = {
+		// "Which courses is this user in?" and FK checks when a user is deleted
+		@Index(name = "IDX_ENROLLMENTS_USER", columnList = "USER_ID")
+})
+public class EnrollmentEntity implements Persistable<EnrollmentId> {
+
+	@EmbeddedId
+	private EnrollmentId id;
+
+	@MapsId("courseId")
+	@ManyToOne(fetch = FetchType.LAZY, optional = false)
+	@JoinColumn(name = "COURSE_ID")
+	private CourseEntity course;
+
+	@MapsId("userId")
+	@ManyToOne(fetch = FetchType.LAZY, optional = false)
+	@JoinColumn(name = "USER_ID")
+	private UserEntity user;
+
+	@CreationTimestamp
+	@Column(name = "ENROLLED_AT", updatable = false)
+	private LocalDateTime enrolledAt;
+
+	@Transient
+	private boolean isNew;
+
+	/**
+	 * course/user may be lazy references (getReferenceById): only their ids are read.
+	 */
+	public EnrollmentEntity(CourseEntity course, UserEntity user) {
+		this.id = new EnrollmentId(course.getId(), user.getId());
+		this.course = course;
+		this.user = user;
+		this.isNew = true;
+	}
+
+	@Override
+	public boolean isNew() {
+		return isNew;
+	}
+
+	@PostLoad
+	@PostPersist
+	void markNotNew() {
+		this.isNew = false;
+	}
+}
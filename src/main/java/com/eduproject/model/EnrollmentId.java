@@ -0,0 +1,34 @@
+package com.eduproject.model;
+
+import java.io.Serializable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Composite primary key of an enrollment: (COURSE_ID, USER_ID).
+ *
+ * The primary key IS the uniqueness rule -- a user can be enrolled in a course
+ * at most once -- and its index answers "is user X in course Y?" with one seek.
+ *
+ * JPA requires composite keys to be Serializable and to implement equals/hashCode.
+ */
+@Embeddable
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+@ToString
+public class EnrollmentId implements Serializable {
+
+	@Column(name = "COURSE_ID")
+	private Long courseId;
+
+	@Column(name = "USER_ID")
+	private Long userId;
+}
@@ -0,0 +1,41 @@
+package com.eduproject.model;
+
+import java.util.Locale;
+
+/**
+ * File formats accepted by the bulk imports.
+ *
+ * CSV: a header row naming the columns (any order, unknown columns ignored), then
+ * one record per row; RFC 4180 quoting, so values may contain commas, quotes and
+ * line breaks. NDJSON: one JSON object per line, e.g. the output of
+ * GET /api/courses/export with Accept: application/x-ndjson.
+ */
+public enum ImportFormat {
+
+	CSV,
+
+	NDJSON;
+
+	/**
+	 * Decided by the file extension (.csv, .ndjson / .jsonl), else by the content type.
+	 *
+	 * @return null when neither names a supported format
+	 */
+	public static ImportFormat of(String filename, String contentType) {
+		String name = filename == null ? "" : filename.toLowerCase(Locale.ROOT);
+		if (name.endsWith(".csv")) {
+			return CSV;
+		}
+		if (name.endsWith(".ndjson") || name.endsWith(".jsonl")) {
+			return NDJSON;
+		}
+		String type = contentType == null ? "" : contentType.toLowerCase(Locale.ROOT);
+		if (type.startsWith("text/csv")) {
+			return CSV;
+		}
+		if (type.startsWith("application/x-ndjson") || type.startsWith("application/jsonl")) {
+			return NDJSON;
+		}
+		return null;
+	}
+}
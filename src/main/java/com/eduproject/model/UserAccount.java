@@ -0,0 +1,12 @@
+package com.eduproject.model;
+
+/**
+ * Immutable snapshot of what authentication needs from a user row.
+ *
+ * WHY not UserEntity?
+ * - It is the value of the {@code userDetails} cache (see CacheConfig), shared by
+ *   every login of that user: a managed JPA entity must not be shared across
+ *   threads, and a mutable object could be changed under another request.
+ */
+public record UserAccount(Long id, String username, String password, Role role, boolean enabled) {
+}
@@ -19,6 +19,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
@@ -31,11 +32,22 @@ import lombok.ToString;
 /**
  * JPA entity representing a user in the system.
  *
- * Implements UserDetails so Spring Security can use this entity directly
- * for authentication without needing a separate adapter class.
+ * Implements UserDetails, but is NOT the session principal: logins load a
+ * compact AuthenticatedUser instead (see CustomUserDetailsService), so no
+ * session holds an entity with its password hash.
  *
  * DESIGN NOTE: Validation annotations are on UserRegistrationDTO (the form DTO),
  * not here. The entity only has JPA column constraints (@Column).
+ *
+ * WHY a pooled sequence and not IDENTITY?
+ * - With IDENTITY the id is only known after the INSERT runs, so Hibernate executes
+ *   every insert on its own and hibernate.jdbc.batch_size is silently ignored.
+ * - SEQ_USER hands out {@value #ID_ALLOCATION_SIZE} ids per round trip, so a bulk
+ *   import (UserImportService) goes out as JDBC batches like CourseEntity does.
+ * - Raw JDBC inserts must take their id from the sequence too
+ *   ({@code next value for SEQ_USER}); the column no longer has a default.
+ *   An existing database needs SEQ_USER created first (application.properties);
+ *   UserIdSequenceCheck stops the application from starting until it is.
  */
 @Getter
 @Setter
@@ -47,8 +59,11 @@ import lombok.ToString;
 @ToString(exclude = "password")
 public class UserEntity implements UserDetails {
 
+	public static final int ID_ALLOCATION_SIZE = 50;
+
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@SequenceGenerator(allocationSize = ID_ALLOCATION_SIZE, name = "SEQ_USER", sequenceName = "SEQ_USER")
+	@GeneratedValue(generator = "SEQ_USER", strategy = GenerationType.SEQUENCE)
 	private Long id;
 
 	@Column(unique = true, nullable = false, length = 50)
@@ -0,0 +1,123 @@
+package com.eduproject.model;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Progress of one bulk user import (see UserImportService), written by the import
+ * thread while the admin's page reads it.
+ *
+ * The counters are atomics and the rest volatile, so a request thread always sees a
+ * consistent-enough snapshot without locking the import. Only the first
+ * {@value #MAX_REPORTED_ERRORS} failed rows are described in {@code errors};
+ * {@code failed} counts all of them.
+ */
+@Getter
+@ToString(exclude = "errors")
+public class UserImportJob {
+
+	public enum State { QUEUED, RUNNING, COMPLETED, FAILED }
+
+	public static final int MAX_REPORTED_ERRORS = 100;
+
+	private final long id;
+
+	private final String filename;
+
+	private final Instant submittedAt = Instant.now();
+
+	private volatile State state = State.QUEUED;
+
+	private volatile Instant startedAt;
+
+	private volatile Instant finishedAt;
+
+	/** Records in the file, counted before the import starts; 0 while QUEUED. */
+	private volatile int totalRows;
+
+	/** Why the whole job stopped (state FAILED); rows that failed on their own are in {@code errors}. */
+	private volatile String failureMessage;
+
+	@Getter(AccessLevel.NONE)
+	private final AtomicInteger imported = new AtomicInteger();
+
+	@Getter(AccessLevel.NONE)
+	private final AtomicInteger failed = new AtomicInteger();
+
+	private final List<String> errors = new CopyOnWriteArrayList<>();
+
+	public UserImportJob(long id, String filename) {
+		this.id = id;
+		this.filename = filename;
+	}
+
+	public void start(int totalRows) {
+		this.totalRows = totalRows;
+		this.startedAt = Instant.now();
+		this.state = State.RUNNING;
+	}
+
+	public void rowsImported(int count) {
+		imported.addAndGet(count);
+	}
+
+	public void rowFailed(int line, String reason) {
+		failed.incrementAndGet();
+		if (errors.size() < MAX_REPORTED_ERRORS) {
+			errors.add("Line " + line + ": " + reason);
+		}
+	}
+
+	public void complete() {
+		finishedAt = Instant.now();
+		state = State.COMPLETED;
+	}
+
+	public void fail(String message) {
+		failureMessage = message;
+		finishedAt = Instant.now();
+		state = State.FAILED;
+	}
+
+	public int getImported() {
+		return imported.get();
+	}
+
+	public int getFailed() {
+		return failed.get();
+	}
+
+	public int getProcessed() {
+		return getImported() + getFailed();
+	}
+
+	public boolean isFinished() {
+		return state == State.COMPLETED || state == State.FAILED;
+	}
+
+	public int getPercent() {
+		int total = totalRows;
+		return total == 0 ? (isFinished() ? 100 : 0) : (int) Math.min(100, getProcessed() * 100L / total);
+	}
+
+	public long getElapsedMillis() {
+		Instant start = startedAt;
+		if (start == null) {
+			return 0;
+		}
+		Instant end = finishedAt;
+		return Duration.between(start, end != null ? end : Instant.now()).toMillis();
+	}
+
+	public long getRowsPerSecond() {
+		long elapsed = getElapsedMillis();
+		return elapsed == 0 ? 0 : getProcessed() * 1000L / elapsed;
+	}
+}
@@ -1,14 +1,98 @@
 package com.eduproject.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import com.eduproject.index.CourseDocument;
 import com.eduproject.model.CourseEntity;
+import com.eduproject.model.CourseResponse;
+import jakarta.persistence.QueryHint;
 
 public interface CourseRepository extends JpaRepository<CourseEntity, Long> {
 
 	Optional<CourseEntity> findByTitle(String title);
-//    List<CourseEntity> findAll
 
+	/** Which of {@code titles} are taken; keep the list under 1000 entries (Oracle IN limit). */
+	@Query("select c.title from CourseEntity c where c.title in :titles")
+	Set<String> findTitlesIn(@Param("titles") Collection<String> titles);
+
+	// --- Keyset pagination (catalog ordering: title ASC, id ASC) ---
+	// Each query is one seek on IDX_COURSES_TITLE_ID plus `limit` rows,
+	// so the cost does not depend on how deep into the catalog the page is.
+
+	List<CourseEntity> findAllByOrderByTitleAscIdAsc(Limit limit);
+
+	@Query("""
+			select c from CourseEntity c
+			where c.title > :title or (c.title = :title and c.id > :id)
+			order by c.title asc, c.id asc""")
+	List<CourseEntity> findPageAfter(@Param("title") String title, @Param("id") Long id, Limit limit);
+
+	/** Returned in DESCENDING order (nearest row first); the caller reverses it. */
+	@Query("""
+			select c from CourseEntity c
+			where c.title < :title or (c.title = :title and c.id < :id)
+			order by c.title desc, c.id desc""")
+	List<CourseEntity> findPageBefore(@Param("title") String title, @Param("id") Long id, Limit limit);
+
+	/**
+	 * Searchable text only, in primary-key order: a PK range seek per batch and no
+	 * entity hydration. Used to (re)build the in-memory indexes.
+	 */
+	@Query("""
+			select new com.eduproject.index.CourseDocument(c.id, c.title, c.description, c.instructor)
+			from CourseEntity c where c.id > :afterId order by c.id""")
+	List<CourseDocument> findDocumentsAfter(@Param("afterId") Long afterId, Limit limit);
+
+	/**
+	 * Whole catalog in primary-key order, for the export. Must be consumed (and closed)
+	 * inside a transaction: the stream is an open JDBC cursor read {@code fetch_size}
+	 * rows at a time, and the DTO projection keeps nothing in the persistence context,
+	 * so memory does not grow with the number of courses.
+	 */
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+	@Query("""
+			select new com.eduproject.model.CourseResponse(c.id, c.title, c.description, c.durationInHours,
+				c.fees, c.instructor, c.capacity, c.enrolledCount, c.version)
+			from CourseEntity c order by c.id""")
+	Stream<CourseResponse> streamAllForExport();
+
+	// --- Seat reservation ---
+	// One conditional UPDATE instead of read-check-write: the database takes the row
+	// lock, re-evaluates the WHERE clause and increments in a single statement, so
+	// concurrent enrollments queue for microseconds on the row instead of failing
+	// on @Version and retrying. The count can never pass the capacity.
+
+	/** @return 1 if a seat was taken, 0 if the course is full (or does not exist) */
+	@Modifying
+	@Query("""
+			update CourseEntity c set c.enrolledCount = c.enrolledCount + 1
+			where c.id = :id and (c.capacity is null or c.enrolledCount < c.capacity)""")
+	int reserveSeat(@Param("id") Long id);
+
+	/** All-or-nothing variant for bulk enrollment: takes {@code count} seats or none. */
+	@Modifying
+	@Query("""
+			update CourseEntity c set c.enrolledCount = c.enrolledCount + :count
+			where c.id = :id and (c.capacity is null or c.enrolledCount + :count <= c.capacity)""")
+	int reserveSeats(@Param("id") Long id, @Param("count") int count);
+
+	/** Gives back the seats of every course the user is enrolled in; run before deleting those enrollments. */
+	@Modifying
+	@Query("""
+			update CourseEntity c set c.enrolledCount = c.enrolledCount - 1
+			where c.enrolledCount > 0 and c.id in
+				(select e.id.courseId from EnrollmentEntity e where e.id.userId = :userId)""")
+	int releaseSeatsHeldBy(@Param("userId") Long userId);
 }
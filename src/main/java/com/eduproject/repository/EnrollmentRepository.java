@@ -0,0 +1,34 @@
+package com.eduproject.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.eduproject.model.EnrollmentEntity;
+import com.eduproject.model.EnrollmentId;
+
+public interface EnrollmentRepository extends JpaRepository<EnrollmentEntity, EnrollmentId>, EnrollmentRepositoryCustom {
+
+	/**
+	 * Membership check by username: primary-key seek on ENROLLMENTS joined to the
+	 * unique username index. Never loads the course's enrollment list.
+	 */
+	boolean existsByIdCourseIdAndUserUsername(Long courseId, String username);
+
+	long countByIdCourseId(Long courseId);
+
+	/** Ids only, straight from the primary-key index; no entities are loaded. */
+	@Query("select e.id.userId from EnrollmentEntity e where e.id.courseId = :courseId")
+	List<Long> findUserIdsByCourseId(@Param("courseId") Long courseId);
+
+	@Modifying
+	@Query("delete from EnrollmentEntity e where e.id.courseId = :courseId")
+	int deleteByCourseId(@Param("courseId") Long courseId);
+
+	@Modifying
+	@Query("delete from EnrollmentEntity e where e.id.userId = :userId")
+	int deleteByUserId(@Param("userId") Long userId);
+}
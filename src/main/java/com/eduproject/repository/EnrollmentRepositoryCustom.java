@@ -0,0 +1,18 @@
+package com.eduproject.repository;
+
+import java.util.List;
+
+/**
+ * Plain-JDBC extensions of EnrollmentRepository (implemented in EnrollmentRepositoryCustomImpl).
+ */
+public interface EnrollmentRepositoryCustom {
+
+	/**
+	 * Inserts one ENROLLMENTS row per user with JDBC batching. Bypasses the persistence
+	 * context entirely, so the caller must have filtered out existing enrollments
+	 * (a duplicate fails the whole batch on the primary key).
+	 *
+	 * @return number of rows inserted
+	 */
+	int insertAll(Long courseId, List<Long> userIds);
+}
@@ -0,0 +1,41 @@
+package com.eduproject.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * WHY JdbcTemplate instead of saveAll()?
+ * - saveAll() keeps every EnrollmentEntity in the persistence context until commit,
+ *   and with an assigned (composite) id each one is merged: a SELECT per row before
+ *   the INSERTs, even with hibernate.jdbc.batch_size.
+ * - batchUpdate() sends BATCH_SIZE rows per round trip and keeps nothing in memory.
+ *
+ * It joins the surrounding JPA transaction (same connection), so a failure rolls
+ * back together with the seat reservation.
+ */
+@RequiredArgsConstructor
+class EnrollmentRepositoryCustomImpl implements EnrollmentRepositoryCustom {
+
+	static final int BATCH_SIZE = 500;
+
+	private static final String INSERT_SQL =
+			"insert into ENROLLMENTS (COURSE_ID, USER_ID, ENROLLED_AT) values (?, ?, ?)";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Override
+	public int insertAll(Long courseId, List<Long> userIds) {
+		Timestamp enrolledAt = Timestamp.valueOf(LocalDateTime.now());
+		jdbcTemplate.batchUpdate(INSERT_SQL, userIds, BATCH_SIZE, (ps, userId) -> {
+			ps.setLong(1, courseId);
+			ps.setLong(2, userId);
+			ps.setTimestamp(3, enrolledAt);
+		});
+		return userIds.size();
+	}
+}
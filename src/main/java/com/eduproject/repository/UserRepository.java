@@ -1,15 +1,72 @@
 package com.eduproject.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import com.eduproject.config.CacheConfig;
+import com.eduproject.model.UserAccount;
 import com.eduproject.model.UserEntity;
 
 public interface UserRepository extends JpaRepository<UserEntity, Long> {
 	
 	Optional<UserEntity> findByUsername(String username);
 
+	/**
+	 * Authentication lookup (login, /users/me), cached per username.
+	 * Unknown usernames return null and are not cached, so a new registration can log in at once.
+	 * UserServiceImpl evicts the entry when the user is updated or deleted.
+	 */
+	@Cacheable(cacheNames = CacheConfig.USER_DETAILS, key = "#username", unless = "#result == null")
+	@Query("""
+			select new com.eduproject.model.UserAccount(u.id, u.username, u.password, u.role, u.enabled)
+			from UserEntity u where u.username = :username""")
+	UserAccount findAccountByUsername(@Param("username") String username);
+
+	/** Id only: resolves a username without hydrating the whole entity. */
+	@Query("select u.id from UserEntity u where u.username = :username")
+	Optional<Long> findIdByUsername(@Param("username") String username);
+
+	/** Closed projection: selects only id and username for a whole batch of names. */
+	List<UsernameId> findByUsernameIn(Collection<String> usernames);
+
+	/** Which of these usernames are taken: one query for a whole import chunk. */
+	@Query("select u.username from UserEntity u where u.username in :usernames")
+	Set<String> findUsernamesIn(@Param("usernames") Collection<String> usernames);
+
+	/** Which of these emails are taken: one query for a whole import chunk. */
+	@Query("select u.email from UserEntity u where u.email in :emails")
+	Set<String> findEmailsIn(@Param("emails") Collection<String> emails);
+
+	/** Unique keys only, in primary-key order: (re)builds the username/email Bloom filters. */
+	@Query("""
+			select u.id as id, u.username as username, u.email as email
+			from UserEntity u where u.id > :afterId order by u.id""")
+	List<UserKeys> findKeysAfter(@Param("afterId") Long afterId, Limit limit);
+
+	interface UserKeys {
+
+		Long getId();
+
+		String getUsername();
+
+		String getEmail();
+	}
+
+	interface UsernameId {
+
+		Long getId();
+
+		String getUsername();
+	}
+
 
     boolean existsByEmail(String email);
 
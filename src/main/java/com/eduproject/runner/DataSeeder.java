@@ -1,7 +1,6 @@
 package com.eduproject.runner;
 
 import java.math.BigDecimal;
-import java.util.ArrayList;
 import java.util.List;
 
 import org.springframework.boot.CommandLineRunner;
@@ -12,6 +11,7 @@ import com.eduproject.model.Role;
 import com.eduproject.model.UserEntity;
 import com.eduproject.repository.CourseRepository;
 import com.eduproject.repository.UserRepository;
+import com.eduproject.service.CourseService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -30,6 +30,7 @@ public class DataSeeder implements CommandLineRunner {
 
     private final CourseRepository courseRepository;
     private final UserRepository userRepository;
+    private final CourseService courseService;
     private final PasswordEncoder passwordEncoder;
 
     @Override
@@ -62,10 +63,12 @@ public class DataSeeder implements CommandLineRunner {
                 CourseEntity.builder().title("Microservices with Spring Cloud")
                         .description("Build microservices using Spring Cloud")
                         .durationInHours(35).instructor("Bob Brown").fees(BigDecimal.valueOf(6000.0)).build(),
-                CourseEntity.builder().title("Python").description("Learn Python for AI")
-                        .enrolledUsers(new ArrayList<>(List.of(king))).build()
+                CourseEntity.builder().title("Python").description("Learn Python for AI").build()
         ));
 
+        CourseEntity python = courses.stream().filter(c -> "Python".equals(c.getTitle())).findFirst().orElseThrow();
+        courseService.enrollUser(python.getId(), king.getUsername());
+
         courses.forEach(c -> log.info("Seeded course: {}", c.getTitle()));
         users.forEach(u -> log.info("Seeded user: {} ({})", u.getUsername(), u.getRole()));
     }
@@ -0,0 +1,61 @@
+package com.eduproject.runner;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.eduproject.model.UserEntity;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Refuses to start while SEQ_USER would hand out ids that users already has.
+ *
+ * WHY?
+ * - users.id used to be IDENTITY. On a database from that time, ddl-auto=update
+ *   creates SEQ_USER at 1, and the next registration or import collides with an
+ *   existing id on the primary key.
+ * - The pooled optimizer turns a sequence value v into the ids v-49..v, so the
+ *   sequence must be a whole allocation ahead of max(id), not just above it.
+ *
+ * Runs before DataSeeder. Reading the sequence skips one allocation of ids per
+ * startup; ids only need to be unique, not dense.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class UserIdSequenceCheck implements CommandLineRunner {
+
+	static final String SEQUENCE = "SEQ_USER";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	private final String nextValueSql;
+
+	public UserIdSequenceCheck(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.nextValueSql = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices()
+				.getDialect().getSequenceSupport().getSequenceNextValString(SEQUENCE);
+	}
+
+	@Override
+	public void run(String... args) {
+		Long maxId = jdbcTemplate.queryForObject("select max(id) from users", Long.class);
+		if (maxId == null) {
+			return;
+		}
+		long nextValue = jdbcTemplate.queryForObject(nextValueSql, Long.class);
+		long firstId = nextValue - UserEntity.ID_ALLOCATION_SIZE + 1;
+		if (firstId <= maxId) {
+			throw new IllegalStateException("%s would hand out ids from %d, but users.id already goes up to %d. Run: "
+					.formatted(SEQUENCE, firstId, maxId)
+					+ "drop sequence %s; create sequence %s start with %d increment by %d"
+					.formatted(SEQUENCE, SEQUENCE, maxId + UserEntity.ID_ALLOCATION_SIZE, UserEntity.ID_ALLOCATION_SIZE));
+		}
+		log.debug("{} at {}, users.id up to {}", SEQUENCE, nextValue, maxId);
+	}
+}
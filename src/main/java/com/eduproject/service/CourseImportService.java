@@ -0,0 +1,25 @@
+package com.eduproject.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.eduproject.model.CourseImportResult;
+import com.eduproject.model.ImportFormat;
+
+public interface CourseImportService {
+
+	/** Rejected rows described in the result; the rest are only counted. */
+	int MAX_REPORTED_ERRORS = 20;
+
+	/**
+	 * Creates a course for every valid row of a CSV or NDJSON file (see ImportFormat)
+	 * whose title is not taken yet. Invalid rows and duplicate titles are skipped and
+	 * reported; the valid rows are inserted in one transaction.
+	 *
+	 * @throws com.eduproject.exception.InvalidImportFileException if a CSV file lacks
+	 *         the title or description column -- nothing is imported
+	 * @throws org.springframework.dao.DataIntegrityViolationException if a title was
+	 *         created concurrently -- nothing is imported
+	 */
+	CourseImportResult importCourses(InputStream input, ImportFormat format) throws IOException;
+}
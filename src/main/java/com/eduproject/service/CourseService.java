@@ -1,16 +1,63 @@
 package com.eduproject.service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 
+import com.eduproject.model.BulkEnrollmentResult;
+import com.eduproject.model.CoursePage;
 import com.eduproject.model.CourseResponse;
+import com.eduproject.model.CourseSuggestion;
 import com.eduproject.model.CreateCourseRequest;
 
 public interface CourseService {
 
+	int DEFAULT_PAGE_SIZE = 20;
+
+	int MAX_PAGE_SIZE = 100;
+
+	int SUGGESTION_LIMIT = 10;
+
 	List<CourseResponse> getAllCourses();
 
+	/**
+	 * Keyset-paginated catalog slice ordered by title.
+	 *
+	 * @param after  cursor of the last row already shown (next page), or null
+	 * @param before cursor of the first row already shown (previous page), or null;
+	 *               takes precedence over {@code after}
+	 * @param size   requested page size, clamped to 1..{@value #MAX_PAGE_SIZE}
+	 */
+	CoursePage getCoursePage(String after, String before, int size);
+
+	/**
+	 * The same page as getCoursePage(), always read from the database and never stored in
+	 * COURSE_CATALOG: for callers that cache the result under a CatalogVersion tag read
+	 * before loading (CatalogFragmentCache), where a stale COURSE_CATALOG entry put back
+	 * after an eviction would be filed under the new version.
+	 */
+	CoursePage loadCoursePage(String after, String before, int size);
+
 	CourseResponse getCourseById(Long courseId);
 
+	/**
+	 * Hands every course to {@code sink}, in id order, straight from a database cursor:
+	 * nothing is collected or cached, so the whole catalog never sits in memory.
+	 * Runs in one read-only transaction that holds a connection until the last row.
+	 */
+	void exportCourses(Consumer<CourseResponse> sink);
+
+	/**
+	 * Ranked full-text search over title, description and instructor
+	 * (in-memory index, see CourseSearchIndex).
+	 *
+	 * @param limit maximum number of results, clamped to 1..{@value #MAX_PAGE_SIZE}
+	 */
+	List<CourseResponse> searchCourses(String query, int limit);
+
+	/** Titles starting with {@code prefix}, case-insensitive (in-memory, see CourseTitleIndex). */
+	List<CourseSuggestion> suggestTitles(String prefix, int limit);
+
 	String createCourse(CreateCourseRequest createCourseRequest);
 
 	void updateCourse(CreateCourseRequest createCourseRequest);
@@ -26,4 +73,13 @@ public interface CourseService {
     boolean isCourseAlreadyEnrolled(Long courseId, String username);
 
     void enrollUser(Long courseId, String username);
+
+    /**
+     * Enrolls a whole cohort in one transaction. Blank and repeated usernames are
+     * ignored; already-enrolled and unknown users are skipped and reported.
+     *
+     * @throws com.eduproject.exception.CourseFullException if the course has fewer free
+     *         seats than new students -- nobody is enrolled in that case
+     */
+    BulkEnrollmentResult enrollUsers(Long courseId, Collection<String> usernames);
 }
@@ -0,0 +1,30 @@
+package com.eduproject.service;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import com.eduproject.model.ImportFormat;
+import com.eduproject.model.UserImportJob;
+
+public interface UserImportService {
+
+	/**
+	 * Queues the creation of a STUDENT account for every valid row of a CSV or NDJSON
+	 * file (see ImportFormat) and returns at once; follow the import with getJob().
+	 * Rows that are invalid, repeat an earlier row, or name a taken username or email
+	 * fail on their own and are reported; the rest of the file is still imported.
+	 *
+	 * @param file a copy of the upload, owned by the import from here on: it is
+	 *             deleted when the import ends
+	 * @throws com.eduproject.exception.InvalidImportFileException if a CSV file lacks
+	 *         the username, password, firstName or email column -- nothing is queued
+	 */
+	UserImportJob startImport(String filename, ImportFormat format, Path file) throws IOException;
+
+	Optional<UserImportJob> getJob(long id);
+
+	/** Newest first; only the last few jobs are remembered. */
+	List<UserImportJob> getRecentJobs();
+}
@@ -17,7 +17,7 @@ public interface UserService {
 
     /**
      * Returns the user ID for the given username, or null if not found.
-     * Used for "My Profile" redirect without requiring principal.id in templates.
+     * Served from the userDetails cache (see CacheConfig).
      */
     Long getUserIdByUsername(String username);
 
@@ -0,0 +1,193 @@
+package com.eduproject.service.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.eduproject.config.CacheConfig;
+import com.eduproject.event.CourseChangedEvent;
+import com.eduproject.exception.InvalidImportFileException;
+import com.eduproject.mapper.CourseMapper;
+import com.eduproject.model.CourseEntity;
+import com.eduproject.model.CourseImportResult;
+import com.eduproject.model.CreateCourseRequest;
+import com.eduproject.model.ImportFormat;
+import com.eduproject.repository.CourseRepository;
+import com.eduproject.service.CourseImportService;
+import com.eduproject.service.impl.ImportRecordReader.ImportRecord;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bulk course import.
+ *
+ * WHY chunks of {@value CourseServiceImpl#IN_LIST_LIMIT} rows?
+ * - Taken titles are looked up with one IN query per chunk instead of one per row.
+ * - saveAll() + flush() sends the chunk as JDBC batches (hibernate.jdbc.batch_size),
+ *   with one sequence call per CourseEntity.ID_ALLOCATION_SIZE ids; clear() then
+ *   empties the persistence context, so memory holds one chunk, not the whole file.
+ *
+ * One transaction for the whole file: a failure (I/O, a title created concurrently)
+ * imports nothing. The caches and indexes are refreshed once, after commit, through
+ * a single CourseChangedEvent.anyCourse() -- not one event per imported course.
+ */
+@Slf4j
+@Service
+@Timed(value = "edupro.service", histogram = true, description = "Service method latency")
+@RequiredArgsConstructor
+public class CourseImportServiceImpl implements CourseImportService {
+
+	private static final int CHUNK_SIZE = CourseServiceImpl.IN_LIST_LIMIT;
+
+	private final CourseRepository courseRepository;
+	private final EntityManager entityManager;
+	private final Validator validator;
+	private final ObjectMapper objectMapper;
+	private final ApplicationEventPublisher eventPublisher;
+
+	@Override
+	// IOException is checked, so it would commit the chunks already flushed without rollbackFor
+	@Transactional(rollbackFor = IOException.class)
+	@CacheEvict(cacheNames = CacheConfig.COURSE_CATALOG, allEntries = true)
+	public CourseImportResult importCourses(InputStream input, ImportFormat format) throws IOException {
+		long start = System.nanoTime();
+		Report report = new Report();
+		Set<String> titlesInFile = new HashSet<>();
+		List<CreateCourseRequest> chunk = new ArrayList<>(CHUNK_SIZE);
+
+		try (ImportRecordReader reader = new ImportRecordReader(
+				new InputStreamReader(input, StandardCharsets.UTF_8), format, objectMapper)) {
+			if (format == ImportFormat.CSV && !reader.columns().containsAll(Set.of("title", "description"))) {
+				throw new InvalidImportFileException("The CSV header must name at least the title and description columns.");
+			}
+			for (ImportRecord record = reader.next(); record != null; record = reader.next()) {
+				report.rows++;
+				CreateCourseRequest course = toRequest(record, report);
+				if (course == null) {
+					continue;
+				}
+				if (!titlesInFile.add(course.getTitle())) {
+					report.duplicates++;
+					continue;
+				}
+				chunk.add(course);
+				if (chunk.size() == CHUNK_SIZE) {
+					insert(chunk, report);
+				}
+			}
+			insert(chunk, report);
+		}
+
+		if (report.imported > 0) {
+			eventPublisher.publishEvent(CourseChangedEvent.anyCourse());
+		}
+		CourseImportResult result = new CourseImportResult(report.rows, report.imported, report.duplicates,
+				report.invalid, report.errors, (System.nanoTime() - start) / 1_000_000);
+		log.info("Course import ({}): {} rows/s, {}", format, result.getRowsPerSecond(), result);
+		return result;
+	}
+
+	/** Inserts the chunk's courses whose titles are not taken yet, then empties the chunk. */
+	private void insert(List<CreateCourseRequest> chunk, Report report) {
+		if (chunk.isEmpty()) {
+			return;
+		}
+		Set<String> taken = courseRepository.findTitlesIn(chunk.stream().map(CreateCourseRequest::getTitle).toList());
+		List<CourseEntity> courses = new ArrayList<>(chunk.size());
+		for (CreateCourseRequest course : chunk) {
+			if (taken.contains(course.getTitle())) {
+				report.duplicates++;
+			} else {
+				courses.add(CourseMapper.toEntity(course));
+			}
+		}
+		courseRepository.saveAll(courses);
+		entityManager.flush();
+		entityManager.clear();
+		report.imported += courses.size();
+		chunk.clear();
+	}
+
+	/** @return the validated course, or null after reporting why the record was rejected */
+	private CreateCourseRequest toRequest(ImportRecord record, Report report) {
+		if (record.error() != null) {
+			report.reject(record.line(), record.error());
+			return null;
+		}
+		CreateCourseRequest course = new CreateCourseRequest();
+		try {
+			course.setTitle(record.get("title"));
+			course.setDescription(record.get("description"));
+			course.setDurationInHours(integer(record, "durationInHours"));
+			course.setFees(decimal(record, "fees"));
+			course.setInstructor(record.get("instructor"));
+			course.setCapacity(integer(record, "capacity"));
+		} catch (NumberFormatException e) {
+			report.reject(record.line(), e.getMessage());
+			return null;
+		}
+		Set<ConstraintViolation<CreateCourseRequest>> violations = validator.validate(course);
+		if (!violations.isEmpty()) {
+			report.reject(record.line(), violations.stream()
+					.sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+					.map(ConstraintViolation::getMessage)
+					.collect(Collectors.joining("; ")));
+			return null;
+		}
+		return course;
+	}
+
+	private static Integer integer(ImportRecord record, String field) {
+		String value = record.get(field);
+		try {
+			return value == null ? null : Integer.valueOf(value);
+		} catch (NumberFormatException e) {
+			throw new NumberFormatException(field + " '" + value + "' is not a whole number");
+		}
+	}
+
+	private static BigDecimal decimal(ImportRecord record, String field) {
+		String value = record.get(field);
+		try {
+			return value == null ? null : new BigDecimal(value);
+		} catch (NumberFormatException e) {
+			throw new NumberFormatException(field + " '" + value + "' is not a number");
+		}
+	}
+
+	/** Running totals for one import. */
+	private static final class Report {
+
+		int rows;
+		int imported;
+		int duplicates;
+		int invalid;
+		final List<String> errors = new ArrayList<>();
+
+		void reject(int line, String reason) {
+			invalid++;
+			if (errors.size() < MAX_REPORTED_ERRORS) {
+				errors.add("Line " + line + ": " + reason);
+			}
+		}
+	}
+}
@@ -1,140 +1,335 @@
 package com.eduproject.service.impl;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import com.eduproject.event.CourseChangedEvent;
+import com.eduproject.event.SeatsChangedEvent;
+import com.eduproject.exception.CourseFullException;
+import com.eduproject.index.CourseSearchIndex;
+import com.eduproject.index.CourseTitleIndex;
 import com.eduproject.exception.UserNotFoundException;
+import com.eduproject.model.BulkEnrollmentResult;
+import com.eduproject.model.CourseCursor;
+import com.eduproject.model.CoursePage;
+import com.eduproject.model.CourseSuggestion;
 import com.eduproject.model.CourseResponse;
 import com.eduproject.model.CreateCourseRequest;
-import com.eduproject.model.UserEntity;
+import com.eduproject.model.EnrollmentEntity;
 import com.eduproject.repository.UserRepository;
-import org.springframework.beans.BeanUtils;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.eduproject.config.CacheConfig;
 import com.eduproject.exception.CourseNotFoundException;
+import com.eduproject.mapper.CourseMapper;
 import com.eduproject.model.CourseEntity;
 import com.eduproject.repository.CourseRepository;
+import com.eduproject.repository.EnrollmentRepository;
 import com.eduproject.service.CourseService;
 
 import lombok.RequiredArgsConstructor;
 
+/**
+ * Course business logic.
+ *
+ * CACHING: reads are served from the {@link CacheConfig#COURSES} (by id) and
+ * {@link CacheConfig#COURSE_CATALOG} (pages, list, count) caches. Writes evict
+ * precisely: the edited/deleted course by id, plus the whole catalog because a
+ * single insert/rename/delete shifts every page after it.
+ *
+ * EVENTS: create/update/delete publish a CourseChangedEvent; in-memory indexes
+ * (search, titles) apply it after commit.
+ *
+ * METRICS: every public method is timed as edupro.service{class,method}.
+ */
 @Service
+@Timed(value = "edupro.service", histogram = true, description = "Service method latency")
 @RequiredArgsConstructor
 public class CourseServiceImpl implements CourseService {
 
+	/** Oracle rejects IN lists longer than 1000 (ORA-01795), so batches of names are split. */
+	static final int IN_LIST_LIMIT = 1000;
+
 	private final CourseRepository courseRepository;
     private final UserRepository userRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final CourseSearchIndex courseSearchIndex;
+    private final CourseTitleIndex courseTitleIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
 	@Override
 	@Transactional(readOnly = true)
+	@Cacheable(cacheNames = CacheConfig.COURSE_CATALOG, key = "'all'")
 	public List<CourseResponse> getAllCourses() {
 		return courseRepository.findAll()
 				.stream()
-				.map(this::entityToResponse)
+				.map(CourseMapper::toResponse)
 				.toList();
 	}
 
 	@Override
 	@Transactional(readOnly = true)
+	@Cacheable(cacheNames = CacheConfig.COURSE_CATALOG, key = "{'page', #after, #before, #size}")
+	public CoursePage getCoursePage(String after, String before, int size) {
+		return loadCoursePage(after, before, size);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public CoursePage loadCoursePage(String after, String before, int size) {
+		int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+		// Fetch one extra row to learn whether another page exists, without a COUNT(*)
+		Limit limit = Limit.of(pageSize + 1);
+
+		CourseCursor beforeCursor = CourseCursor.decode(before);
+		if (beforeCursor != null) {
+			List<CourseEntity> rows = new ArrayList<>(
+					courseRepository.findPageBefore(beforeCursor.getTitle(), beforeCursor.getId(), limit));
+			if (!rows.isEmpty()) {
+				boolean hasPrevious = rows.size() > pageSize;
+				if (hasPrevious) {
+					rows.remove(pageSize);
+				}
+				Collections.reverse(rows);
+				return toPage(rows, hasPrevious, true, pageSize);
+			}
+			// Nothing before the cursor (rows deleted meanwhile): show the first page
+		}
+
+		CourseCursor afterCursor = CourseCursor.decode(after);
+		List<CourseEntity> rows = afterCursor != null
+				? courseRepository.findPageAfter(afterCursor.getTitle(), afterCursor.getId(), limit)
+				: courseRepository.findAllByOrderByTitleAscIdAsc(limit);
+		if (rows.isEmpty() && afterCursor != null) {
+			// Cursor pointed past the end (rows deleted meanwhile): show the first page
+			afterCursor = null;
+			rows = courseRepository.findAllByOrderByTitleAscIdAsc(limit);
+		}
+
+		boolean hasNext = rows.size() > pageSize;
+		return toPage(hasNext ? rows.subList(0, pageSize) : rows, afterCursor != null, hasNext, pageSize);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	@Cacheable(cacheNames = CacheConfig.COURSES, key = "#courseId")
 	public CourseResponse getCourseById(Long courseId) {
 		return courseRepository.findById(courseId)
-				.map(this::entityToResponse)
+				.map(CourseMapper::toResponse)
 				.orElseThrow(() -> new CourseNotFoundException("Course with ID " + courseId + " not found"));
 	}
 
+	@Override
+	@Transactional(readOnly = true)
+	public void exportCourses(Consumer<CourseResponse> sink) {
+		try (Stream<CourseResponse> courses = courseRepository.streamAllForExport()) {
+			courses.forEach(sink);
+		}
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public List<CourseResponse> searchCourses(String query, int limit) {
+		List<Long> ids = courseSearchIndex.search(query, Math.max(1, Math.min(limit, MAX_PAGE_SIZE)));
+		if (ids.isEmpty()) {
+			return List.of();
+		}
+		// One primary-key IN query for the hits, then back into the index's rank order
+		Map<Long, CourseEntity> byId = courseRepository.findAllById(ids).stream()
+				.collect(Collectors.toMap(CourseEntity::getId, Function.identity()));
+		return ids.stream()
+				.map(byId::get)
+				.filter(Objects::nonNull)
+				.map(CourseMapper::toResponse)
+				.toList();
+	}
+
+	@Override
+	public List<CourseSuggestion> suggestTitles(String prefix, int limit) {
+		return courseTitleIndex.suggest(prefix, Math.max(1, Math.min(limit, MAX_PAGE_SIZE)));
+	}
+
 	@Override
 	@Transactional
+	@CacheEvict(cacheNames = CacheConfig.COURSE_CATALOG, allEntries = true)
 	public String createCourse(CreateCourseRequest createCourseRequest) {
-		CourseEntity entity = toEntity(createCourseRequest);
-		return courseRepository.save(entity).getTitle();
+		CourseEntity saved = courseRepository.save(CourseMapper.toEntity(createCourseRequest));
+		eventPublisher.publishEvent(CourseChangedEvent.saved(saved));
+		return saved.getTitle();
 	}
 
 	@Override
 	@Transactional
+	@Caching(evict = {
+			@CacheEvict(cacheNames = CacheConfig.COURSES, key = "#createCourseRequest.id"),
+			@CacheEvict(cacheNames = CacheConfig.COURSE_CATALOG, allEntries = true)
+	})
 	public void updateCourse(CreateCourseRequest createCourseRequest) {
 		// Load the managed entity first to preserve version, audit fields
 		CourseEntity entity = courseRepository.findById(createCourseRequest.getId())
 				.orElseThrow(() -> new CourseNotFoundException("Course with ID " + createCourseRequest.getId() + " not found"));
 
-		// Copy only user-editable fields; exclude id, version, and audit columns
-		BeanUtils.copyProperties(createCourseRequest, entity, "id", "version", "createdBy", "createdDate");
+		// Copy only user-editable fields; id, version, and audit columns stay untouched
+		CourseMapper.updateEntity(createCourseRequest, entity);
 		courseRepository.save(entity);
+		eventPublisher.publishEvent(CourseChangedEvent.saved(entity));
 	}
 
 	@Override
 	@Transactional
+	@Caching(evict = {
+			@CacheEvict(cacheNames = CacheConfig.COURSES, key = "#courseId"),
+			@CacheEvict(cacheNames = CacheConfig.COURSE_CATALOG, allEntries = true)
+	})
 	public void deleteCourseById(Long courseId) {
 		if (!courseRepository.existsById(courseId)) {
 			throw new CourseNotFoundException("Course with ID " + courseId + " not found");
 		}
+		// Enrollments reference the course (FK), so they go first
+		enrollmentRepository.deleteByCourseId(courseId);
 		courseRepository.deleteById(courseId);
+		eventPublisher.publishEvent(CourseChangedEvent.deleted(courseId));
 	}
 
 	@Override
 	@Transactional(readOnly = true)
+	@Cacheable(cacheNames = CacheConfig.COURSE_CATALOG, key = "'count'")
 	public long getCourseCount() {
 		return courseRepository.count();
 	}
 
+	// Duplicate-title pre-checks answer from the in-memory title index (no query per submit).
+	// The index is updated after commit, so a concurrent create can slip past it:
+	// the COURSE_TITLE unique constraint stays the final guard (see CourseController).
+
 	@Override
 	@Transactional(readOnly = true)
 	public boolean existsByTitle(String title) {
+		if (courseTitleIndex.isReady()) {
+			return courseTitleIndex.findIdByTitle(title).isPresent();
+		}
 		return courseRepository.findByTitle(title).isPresent();
 	}
 
 	@Override
 	@Transactional(readOnly = true)
 	public boolean existsByTitleExcludingId(String title, Long id) {
-		Optional<CourseEntity> existing = courseRepository.findByTitle(title);
-		return existing.isPresent() && !existing.get().getId().equals(id);
+		Optional<Long> existingId = courseTitleIndex.isReady()
+				? courseTitleIndex.findIdByTitle(title)
+				: courseRepository.findByTitle(title).map(CourseEntity::getId);
+		return existingId.isPresent() && !existingId.get().equals(id);
 	}
 
     @Override
     @Transactional(readOnly = true)
     public boolean isCourseAlreadyEnrolled(Long courseId, String username) {
-        CourseEntity course = courseRepository.findById(courseId)
-                .orElseThrow(() -> new CourseNotFoundException("Course with ID " + courseId + " not found"));
-        UserEntity user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new UserNotFoundException("User with username " + username + " not found"));
-        List<UserEntity> enrolled = course.getEnrolledUsers();
-        return enrolled != null && enrolled.stream()
-                .anyMatch(u -> u.getId().equals(user.getId()));
+        // One indexed existence query; unknown course or user simply means "not enrolled"
+        return enrollmentRepository.existsByIdCourseIdAndUserUsername(courseId, username);
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.COURSES, key = "#courseId")
     public void enrollUser(Long courseId, String username) {
-        CourseEntity course = courseRepository.findById(courseId)
-                .orElseThrow(() -> new CourseNotFoundException("Course with ID " + courseId + " not found"));
-        UserEntity user = userRepository.findByUsername(username)
+        // Existence checks only: the course row is neither loaded nor locked
+        if (!courseRepository.existsById(courseId)) {
+            throw new CourseNotFoundException("Course with ID " + courseId + " not found");
+        }
+        Long userId = userRepository.findIdByUsername(username)
                 .orElseThrow(() -> new UserNotFoundException("User with username " + username + " not found"));
 
-        List<UserEntity> enrolled = course.getEnrolledUsers() != null
-                ? new java.util.ArrayList<>(course.getEnrolledUsers())
-                : new java.util.ArrayList<>();
-        enrolled.add(user);
-        course.setEnrolledUsers(enrolled);
-        courseRepository.save(course);
+        // Single-row INSERT into ENROLLMENTS; existing enrollments and COURSES are untouched.
+        // A concurrent duplicate fails on the primary key (DataIntegrityViolationException).
+        // Flushed now so a duplicate is rejected before we queue for the course row lock.
+        enrollmentRepository.saveAndFlush(new EnrollmentEntity(
+                courseRepository.getReferenceById(courseId),
+                userRepository.getReferenceById(userId)));
+
+        // Take the seat last: the course row stays locked only from here to commit
+        if (courseRepository.reserveSeat(courseId) == 0) {
+            // Unchecked exception -> rollback, which also removes the enrollment inserted above
+            throw new CourseFullException("Course with ID " + courseId + " is full");
+        }
+        eventPublisher.publishEvent(SeatsChangedEvent.forCourse(courseId));
     }
 
-    // --- Mapping methods ---
-    // - to be replaced with entityToResponse() when compelted
-	private CreateCourseRequest toDTO(CourseEntity entity) {
-		CreateCourseRequest dto = new CreateCourseRequest();
-		BeanUtils.copyProperties(entity, dto);
-		return dto;
-	}
+    @Override
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.COURSES, key = "#courseId")
+    public BulkEnrollmentResult enrollUsers(Long courseId, Collection<String> usernames) {
+        if (!courseRepository.existsById(courseId)) {
+            throw new CourseNotFoundException("Course with ID " + courseId + " not found");
+        }
+        Set<String> requested = new LinkedHashSet<>();
+        for (String username : usernames) {
+            if (username != null && !username.isBlank()) {
+                requested.add(username.trim());
+            }
+        }
 
-    private CourseResponse entityToResponse(CourseEntity entity) {
-        CourseResponse courseResponse = new CourseResponse();
-        BeanUtils.copyProperties(entity, courseResponse);
-        return courseResponse;
+        // One id+username query per IN_LIST_LIMIT names instead of one lookup per student
+        Map<String, Long> idsByUsername = new HashMap<>();
+        List<String> names = new ArrayList<>(requested);
+        for (int from = 0; from < names.size(); from += IN_LIST_LIMIT) {
+            List<String> chunk = names.subList(from, Math.min(from + IN_LIST_LIMIT, names.size()));
+            userRepository.findByUsernameIn(chunk)
+                    .forEach(user -> idsByUsername.put(user.getUsername(), user.getId()));
+        }
+        Set<Long> enrolledIds = new HashSet<>(enrollmentRepository.findUserIdsByCourseId(courseId));
+
+        List<Long> toEnroll = new ArrayList<>();
+        List<String> unknown = new ArrayList<>();
+        int alreadyEnrolled = 0;
+        for (String username : requested) {
+            Long userId = idsByUsername.get(username);
+            if (userId == null) {
+                unknown.add(username);
+            } else if (enrolledIds.contains(userId)) {
+                alreadyEnrolled++;
+            } else {
+                toEnroll.add(userId);
+            }
+        }
+
+        if (!toEnroll.isEmpty()) {
+            // Same order as enrollUser(): rows first, then the seats, so the course row
+            // is locked only for the final UPDATE, not for the whole batch insert.
+            // A student enrolled concurrently since the read above fails the batch on the
+            // primary key and the whole cohort rolls back (DataIntegrityViolationException).
+            enrollmentRepository.insertAll(courseId, toEnroll);
+            if (courseRepository.reserveSeats(courseId, toEnroll.size()) == 0) {
+                throw new CourseFullException("Course with ID " + courseId
+                        + " has fewer than " + toEnroll.size() + " free seats");
+            }
+            eventPublisher.publishEvent(SeatsChangedEvent.forCourse(courseId));
+        }
+        return new BulkEnrollmentResult(requested.size(), toEnroll.size(), alreadyEnrolled, unknown);
     }
 
-	private CourseEntity toEntity(CreateCourseRequest dto) {
-		CourseEntity entity = new CourseEntity();
-		BeanUtils.copyProperties(dto, entity);
-		return entity;
-	}
+    private CoursePage toPage(List<CourseEntity> rows, boolean hasPrevious, boolean hasNext, int pageSize) {
+        String previousCursor = hasPrevious ? CourseCursor.of(rows.get(0)).encode() : null;
+        String nextCursor = hasNext ? CourseCursor.of(rows.get(rows.size() - 1)).encode() : null;
+        List<CourseResponse> courses = rows.stream().map(CourseMapper::toResponse).toList();
+        return new CoursePage(courses, previousCursor, nextCursor, pageSize);
+    }
 }
@@ -0,0 +1,220 @@
+package com.eduproject.service.impl;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.eduproject.model.ImportFormat;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+/**
+ * Reads an uploaded CSV or NDJSON file one record at a time, as field name → text.
+ *
+ * Both formats end up in the same shape, so the caller converts and validates the
+ * values once, with the same messages, whatever was uploaded. Field names are
+ * normalized by {@link #key}: "durationInHours", "duration_in_hours" and
+ * "Duration In Hours" are the same column. Empty values and JSON nulls are left out.
+ *
+ * Only the current record is held in memory, so a file of any size is read in
+ * constant space. A malformed record is returned with an error instead of values,
+ * and reading continues with the next one.
+ */
+public final class ImportRecordReader implements Closeable {
+
+	/**
+	 * @param line  line number (1-based) where the record starts
+	 * @param error why the record could not be read, or null
+	 */
+	public record ImportRecord(int line, Map<String, String> values, String error) {
+
+		public String get(String name) {
+			return values.get(key(name));
+		}
+	}
+
+	private static final char BOM = '\uFEFF';
+
+	private final BufferedReader input;
+
+	private final ImportFormat format;
+
+	private final ObjectReader json;
+
+	private final List<String> header;
+
+	private int lineNumber;
+
+	public ImportRecordReader(Reader input, ImportFormat format, ObjectMapper objectMapper) throws IOException {
+		this.input = new BufferedReader(input);
+		this.format = format;
+		// Fees stay exact: 0.1 is read as the decimal 0.1, not the double nearest to it
+		this.json = objectMapper.reader().with(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+		this.header = format == ImportFormat.CSV ? readHeader() : null;
+	}
+
+	/** Normalized CSV column names; empty for NDJSON, where every record names its own fields. */
+	public Set<String> columns() {
+		return header == null ? Set.of() : new LinkedHashSet<>(header);
+	}
+
+	/** @return the next record, or null at the end of the input */
+	public ImportRecord next() throws IOException {
+		String line = nextNonBlankLine();
+		if (line == null) {
+			return null;
+		}
+		return format == ImportFormat.CSV ? csvRecord(line) : jsonRecord(line);
+	}
+
+	/** Lower case, letters and digits only. */
+	public static String key(String name) {
+		StringBuilder key = new StringBuilder(name.length());
+		for (int i = 0; i < name.length(); i++) {
+			char c = name.charAt(i);
+			if (Character.isLetterOrDigit(c)) {
+				key.append(Character.toLowerCase(c));
+			}
+		}
+		return key.toString();
+	}
+
+	@Override
+	public void close() throws IOException {
+		input.close();
+	}
+
+	// ==================== CSV ====================
+
+	private List<String> readHeader() throws IOException {
+		String line = nextNonBlankLine();
+		if (line == null) {
+			return List.of();
+		}
+		List<String> columns = new ArrayList<>();
+		List<String> fields = parseCsv(line);
+		if (fields == null) {
+			return List.of();
+		}
+		for (String field : fields) {
+			columns.add(key(field));
+		}
+		return columns;
+	}
+
+	private ImportRecord csvRecord(String line) throws IOException {
+		int start = lineNumber;
+		List<String> fields = parseCsv(line);
+		if (fields == null) {
+			return new ImportRecord(start, Map.of(), "unterminated quoted value");
+		}
+		if (fields.size() > header.size()) {
+			return new ImportRecord(start, Map.of(),
+					"expected at most " + header.size() + " values, found " + fields.size());
+		}
+		Map<String, String> values = new HashMap<>();
+		for (int i = 0; i < fields.size(); i++) {
+			if (!fields.get(i).isEmpty()) {
+				values.put(header.get(i), fields.get(i));
+			}
+		}
+		return new ImportRecord(start, values, null);
+	}
+
+	/**
+	 * RFC 4180 record starting at {@code line}: comma-separated, double-quoted values may
+	 * hold commas, line breaks and "" for a quote. Unquoted values are trimmed.
+	 *
+	 * @return null when a quoted value is still open at the end of the input
+	 */
+	private List<String> parseCsv(String line) throws IOException {
+		List<String> fields = new ArrayList<>();
+		StringBuilder field = new StringBuilder();
+		boolean inQuotes = false;
+		boolean quoted = false;
+		int i = 0;
+		while (true) {
+			if (i == line.length()) {
+				if (!inQuotes) {
+					fields.add(quoted ? field.toString() : field.toString().strip());
+					return fields;
+				}
+				line = input.readLine();
+				if (line == null) {
+					return null;
+				}
+				lineNumber++;
+				field.append('\n');
+				i = 0;
+				continue;
+			}
+			char c = line.charAt(i++);
+			if (inQuotes) {
+				if (c != '"') {
+					field.append(c);
+				} else if (i < line.length() && line.charAt(i) == '"') {
+					field.append('"');
+					i++;
+				} else {
+					inQuotes = false;
+				}
+			} else if (c == '"') {
+				inQuotes = true;
+				quoted = true;
+			} else if (c == ',') {
+				fields.add(quoted ? field.toString() : field.toString().strip());
+				field.setLength(0);
+				quoted = false;
+			} else {
+				field.append(c);
+			}
+		}
+	}
+
+	// ==================== NDJSON ====================
+
+	private ImportRecord jsonRecord(String line) {
+		JsonNode node;
+		try {
+			node = json.readTree(line);
+		} catch (JsonProcessingException e) {
+			return new ImportRecord(lineNumber, Map.of(), "invalid JSON: " + e.getOriginalMessage());
+		}
+		if (node == null || !node.isObject()) {
+			return new ImportRecord(lineNumber, Map.of(), "expected a JSON object");
+		}
+		Map<String, String> values = new HashMap<>();
+		for (Map.Entry<String, JsonNode> field : node.properties()) {
+			JsonNode value = field.getValue();
+			if (value.isValueNode() && !value.isNull() && !value.asText().isEmpty()) {
+				values.put(key(field.getKey()), value.asText());
+			}
+		}
+		return new ImportRecord(lineNumber, values, null);
+	}
+
+	private String nextNonBlankLine() throws IOException {
+		String line;
+		do {
+			line = input.readLine();
+			if (line == null) {
+				return null;
+			}
+			lineNumber++;
+			if (lineNumber == 1 && !line.isEmpty() && line.charAt(0) == BOM) {
+				line = line.substring(1);
+			}
+		} while (line.isBlank());
+		return line;
+	}
+}
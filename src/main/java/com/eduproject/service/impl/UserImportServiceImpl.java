@@ -0,0 +1,378 @@
+package com.eduproject.service.impl;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import com.eduproject.config.PasswordHashingConfig;
+import com.eduproject.exception.InvalidImportFileException;
+import com.eduproject.exception.PasswordHashingBusyException;
+import com.eduproject.index.UserExistenceFilter;
+import com.eduproject.index.UserExistenceFilter.Field;
+import com.eduproject.model.ImportFormat;
+import com.eduproject.model.Role;
+import com.eduproject.model.UserEntity;
+import com.eduproject.model.UserImportJob;
+import com.eduproject.model.UserRequest;
+import com.eduproject.repository.UserRepository;
+import com.eduproject.service.UserImportService;
+import com.eduproject.service.impl.ImportRecordReader.ImportRecord;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.annotation.Timed;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bulk user import: onboards an intake of students from one file.
+ *
+ * WHY not registerUser() once per row?
+ * - Hashing: registerUser() hashes on the calling thread's turn, one password at a
+ *   time. Here a chunk's passwords are submitted together, so every thread of the
+ *   BoundedPasswordEncoder pool works on the import. The fan-out is exactly that
+ *   pool's size, so the import never holds more than one queued hash per thread --
+ *   logins still get their turn, and when they fill the queue the import backs off
+ *   and retries instead of failing rows.
+ * - Ids and inserts: SEQ_USER hands out UserEntity.ID_ALLOCATION_SIZE ids per round
+ *   trip, so a chunk goes out as JDBC batches (see UserImportWriter).
+ * - Uniqueness: one IN query per chunk and key, and only for the values the
+ *   UserExistenceFilter cannot rule out -- for a fresh intake, usually none.
+ *
+ * WHY a background job?
+ * - 30k BCrypt hashes are minutes of CPU even spread over several cores; the upload
+ *   request returns at once and the admin follows the UserImportJob's progress.
+ * - One import runs at a time; later uploads wait in line.
+ *
+ * Each chunk commits on its own, so a bad row never aborts the file: invalid rows,
+ * repeats and taken keys are reported and skipped, and a chunk that hits a key taken
+ * meanwhile is retried row by row to find the culprit.
+ */
+@Slf4j
+@Service
+@Timed(value = "edupro.service", histogram = true, description = "Service method latency")
+public class UserImportServiceImpl implements UserImportService {
+
+	/** Hashed, checked and inserted together: two JDBC batches, progress every few seconds. */
+	static final int CHUNK_SIZE = 2 * UserEntity.ID_ALLOCATION_SIZE;
+
+	static final int RECENT_JOBS = 10;
+
+	private static final int MAX_HASH_ATTEMPTS = 10;
+
+	private static final Duration HASH_BACKOFF = Duration.ofSeconds(1);
+
+	private static final Set<String> REQUIRED_COLUMNS = Set.of("username", "password", "firstname", "email");
+
+	/** A data row and the line it starts on. */
+	private record Row(int line, UserRequest user) {
+	}
+
+	private final UserRepository userRepository;
+	private final UserImportWriter writer;
+	private final PasswordEncoder passwordEncoder;
+	private final UserExistenceFilter userExistenceFilter;
+	private final Validator validator;
+	private final ObjectMapper objectMapper;
+
+	private final ExecutorService jobs;
+	private final ExecutorService hashing;
+	private final AtomicLong jobIds = new AtomicLong();
+
+	/** Insertion order = submission order. Guarded by itself. */
+	private final Map<Long, UserImportJob> recentJobs = new LinkedHashMap<>();
+
+	public UserImportServiceImpl(UserRepository userRepository, UserImportWriter writer,
+			PasswordEncoder passwordEncoder, UserExistenceFilter userExistenceFilter,
+			Validator validator, ObjectMapper objectMapper,
+			@Value("${edupro.password-hashing.threads}") int hashingThreads) {
+		this.userRepository = userRepository;
+		this.writer = writer;
+		this.passwordEncoder = passwordEncoder;
+		this.userExistenceFilter = userExistenceFilter;
+		this.validator = validator;
+		this.objectMapper = objectMapper;
+		this.jobs = Executors.newSingleThreadExecutor(daemonThreads("user-import-"));
+		// These threads only wait on the hashing pool; the pool does the CPU work
+		this.hashing = Executors.newFixedThreadPool(PasswordHashingConfig.poolSize(hashingThreads),
+				daemonThreads("user-import-hash-"));
+	}
+
+	@Override
+	public UserImportJob startImport(String filename, ImportFormat format, Path file) throws IOException {
+		try (ImportRecordReader reader = reader(file, format)) {
+			if (format == ImportFormat.CSV && !reader.columns().containsAll(REQUIRED_COLUMNS)) {
+				throw new InvalidImportFileException(
+						"The CSV header must name at least the username, password, firstName and email columns.");
+			}
+		} catch (IOException | RuntimeException e) {
+			Files.deleteIfExists(file);
+			throw e;
+		}
+
+		UserImportJob job = new UserImportJob(jobIds.incrementAndGet(), filename);
+		synchronized (recentJobs) {
+			recentJobs.put(job.getId(), job);
+			if (recentJobs.size() > RECENT_JOBS) {
+				recentJobs.remove(recentJobs.keySet().iterator().next());
+			}
+		}
+		jobs.execute(() -> run(job, format, file));
+		log.info("User import {} queued: {}", job.getId(), filename);
+		return job;
+	}
+
+	@Override
+	public Optional<UserImportJob> getJob(long id) {
+		synchronized (recentJobs) {
+			return Optional.ofNullable(recentJobs.get(id));
+		}
+	}
+
+	@Override
+	public List<UserImportJob> getRecentJobs() {
+		synchronized (recentJobs) {
+			List<UserImportJob> newestFirst = new ArrayList<>(recentJobs.values());
+			newestFirst.sort(Comparator.comparingLong(UserImportJob::getId).reversed());
+			return newestFirst;
+		}
+	}
+
+	@PreDestroy
+	void shutdown() {
+		jobs.shutdownNow();
+		hashing.shutdownNow();
+	}
+
+	private void run(UserImportJob job, ImportFormat format, Path file) {
+		try {
+			job.start(countRecords(file, format));
+			importRows(job, format, file);
+			job.complete();
+			log.info("User import {} done: {} imported, {} failed of {} rows in {} ms ({} rows/s)", job.getId(),
+					job.getImported(), job.getFailed(), job.getTotalRows(), job.getElapsedMillis(), job.getRowsPerSecond());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			job.fail("The application shut down during the import.");
+		} catch (IOException | RuntimeException e) {
+			log.error("User import {} ({}) failed", job.getId(), job.getFilename(), e);
+			job.fail("The import stopped after " + job.getProcessed() + " rows: " + e.getMessage());
+		} finally {
+			try {
+				Files.deleteIfExists(file);
+			} catch (IOException e) {
+				log.warn("Could not delete user import file {}", file, e);
+			}
+		}
+	}
+
+	/** A quick first pass, so progress can be shown as a percentage. */
+	private int countRecords(Path file, ImportFormat format) throws IOException {
+		int records = 0;
+		try (ImportRecordReader reader = reader(file, format)) {
+			while (reader.next() != null) {
+				records++;
+			}
+		}
+		return records;
+	}
+
+	private void importRows(UserImportJob job, ImportFormat format, Path file) throws IOException, InterruptedException {
+		Set<String> usernamesInFile = new HashSet<>();
+		Set<String> emailsInFile = new HashSet<>();
+		List<Row> chunk = new ArrayList<>(CHUNK_SIZE);
+
+		try (ImportRecordReader reader = reader(file, format)) {
+			for (ImportRecord record = reader.next(); record != null; record = reader.next()) {
+				UserRequest user = toRequest(record, job);
+				if (user == null) {
+					continue;
+				}
+				if (!usernamesInFile.add(user.getUsername())) {
+					job.rowFailed(record.line(), "username '" + user.getUsername() + "' appears earlier in the file");
+					continue;
+				}
+				if (!emailsInFile.add(user.getEmail())) {
+					job.rowFailed(record.line(), "email '" + user.getEmail() + "' appears earlier in the file");
+					continue;
+				}
+				chunk.add(new Row(record.line(), user));
+				if (chunk.size() == CHUNK_SIZE) {
+					importChunk(chunk, job);
+				}
+			}
+			importChunk(chunk, job);
+		}
+	}
+
+	/** Imports the chunk's rows whose username and email are free, then empties the chunk. */
+	private void importChunk(List<Row> chunk, UserImportJob job) throws InterruptedException {
+		if (chunk.isEmpty()) {
+			return;
+		}
+		Set<String> takenUsernames = taken(chunk, Field.USERNAME, UserRequest::getUsername, userRepository::findUsernamesIn);
+		Set<String> takenEmails = taken(chunk, Field.EMAIL, UserRequest::getEmail, userRepository::findEmailsIn);
+		List<Row> free = new ArrayList<>(chunk.size());
+		for (Row row : chunk) {
+			if (takenUsernames.contains(row.user().getUsername())) {
+				job.rowFailed(row.line(), "username '" + row.user().getUsername() + "' is already taken");
+			} else if (takenEmails.contains(row.user().getEmail())) {
+				job.rowFailed(row.line(), "email '" + row.user().getEmail() + "' is already registered");
+			} else {
+				free.add(row);
+			}
+		}
+		insert(hash(free, job), job);
+		chunk.clear();
+	}
+
+	/** The chunk's taken values of one unique key; only values the Bloom filter cannot rule out are queried. */
+	private Set<String> taken(List<Row> chunk, Field field, Function<UserRequest, String> key,
+			Function<Collection<String>, Set<String>> query) {
+		List<String> candidates = chunk.stream()
+				.map(row -> key.apply(row.user()))
+				.filter(value -> userExistenceFilter.mightContain(field, value))
+				.toList();
+		return candidates.isEmpty() ? Set.of() : query.apply(candidates);
+	}
+
+	/** @return each row whose password could be hashed, with its hash, in file order */
+	private Map<Row, String> hash(List<Row> rows, UserImportJob job) throws InterruptedException {
+		List<CompletableFuture<String>> hashes = rows.stream()
+				.map(row -> CompletableFuture.supplyAsync(() -> encode(row.user().getPassword()), hashing))
+				.toList();
+		Map<Row, String> hashed = new LinkedHashMap<>();
+		try {
+			for (int i = 0; i < rows.size(); i++) {
+				try {
+					hashed.put(rows.get(i), hashes.get(i).get());
+				} catch (ExecutionException e) {
+					job.rowFailed(rows.get(i).line(), e.getCause().getMessage());
+				}
+			}
+		} catch (InterruptedException e) {
+			hashes.forEach(hash -> hash.cancel(true));
+			throw e;
+		}
+		return hashed;
+	}
+
+	private String encode(String password) {
+		for (int attempt = 1; ; attempt++) {
+			try {
+				return passwordEncoder.encode(password);
+			} catch (PasswordHashingBusyException e) {
+				// Logins filled the hashing queue: let them through, then try again
+				if (attempt == MAX_HASH_ATTEMPTS) {
+					throw e;
+				}
+				try {
+					Thread.sleep(HASH_BACKOFF.toMillis());
+				} catch (InterruptedException interrupted) {
+					Thread.currentThread().interrupt();
+					throw e;
+				}
+			}
+		}
+	}
+
+	private void insert(Map<Row, String> hashed, UserImportJob job) {
+		if (hashed.isEmpty()) {
+			return;
+		}
+		try {
+			job.rowsImported(writer.insert(toEntities(hashed)));
+		} catch (DataIntegrityViolationException e) {
+			// Someone took one of these keys since the check; the chunk rolled back, so
+			// retry row by row (with fresh entities: the failed ones hold stale ids)
+			log.info("User import chunk hit a key taken meanwhile, retrying its {} rows one by one", hashed.size());
+			hashed.forEach((row, hash) -> {
+				try {
+					job.rowsImported(writer.insert(toEntities(Map.of(row, hash))));
+				} catch (DataIntegrityViolationException rowError) {
+					job.rowFailed(row.line(), "username or email was registered during the import");
+				}
+			});
+		}
+	}
+
+	private static List<UserEntity> toEntities(Map<Row, String> hashed) {
+		List<UserEntity> users = new ArrayList<>(hashed.size());
+		hashed.forEach((row, hash) -> users.add(UserEntity.builder()
+				.username(row.user().getUsername())
+				.password(hash)
+				.firstName(row.user().getFirstName())
+				.lastName(row.user().getLastName())
+				.email(row.user().getEmail())
+				.role(Role.STUDENT)  // Security: imports create students only, like registration
+				.build()));
+		return users;
+	}
+
+	/** @return the validated row, or null after reporting why it was rejected */
+	private UserRequest toRequest(ImportRecord record, UserImportJob job) {
+		if (record.error() != null) {
+			job.rowFailed(record.line(), record.error());
+			return null;
+		}
+		UserRequest user = new UserRequest(record.get("username"), record.get("password"),
+				record.get("firstName"), record.get("lastName"), record.get("email"));
+		Set<ConstraintViolation<UserRequest>> violations = validator.validate(user);
+		if (!violations.isEmpty()) {
+			job.rowFailed(record.line(), violations.stream()
+					.sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+					.map(ConstraintViolation::getMessage)
+					.collect(Collectors.joining("; ")));
+			return null;
+		}
+		return user;
+	}
+
+	private ImportRecordReader reader(Path file, ImportFormat format) throws IOException {
+		// Not Files.newBufferedReader(): that throws on a malformed byte instead of replacing it
+		Reader input = new InputStreamReader(Files.newInputStream(file), StandardCharsets.UTF_8);
+		try {
+			return new ImportRecordReader(input, format, objectMapper);
+		} catch (IOException | RuntimeException e) {
+			input.close();
+			throw e;
+		}
+	}
+
+	private static ThreadFactory daemonThreads(String prefix) {
+		AtomicInteger threadNumber = new AtomicInteger();
+		return task -> {
+			Thread thread = new Thread(task, prefix + threadNumber.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+}
@@ -0,0 +1,44 @@
+package com.eduproject.service.impl;
+
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.eduproject.index.UserExistenceFilter;
+import com.eduproject.model.UserEntity;
+import com.eduproject.repository.UserRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * The transactional half of UserImportServiceImpl: one transaction per chunk.
+ *
+ * WHY a separate bean?
+ * - The import runs on its own thread and calls this once per chunk; a @Transactional
+ *   method on UserImportServiceImpl itself would be a self-call and bypass the proxy.
+ * - Passwords are hashed before this is called, so no transaction (and no pooled
+ *   connection) is held open while BCrypt runs.
+ */
+@Component
+@RequiredArgsConstructor
+class UserImportWriter {
+
+	private final UserRepository userRepository;
+	private final UserExistenceFilter userExistenceFilter;
+
+	/**
+	 * Inserts the users as JDBC batches (pooled SEQ_USER ids, hibernate.jdbc.batch_size).
+	 *
+	 * @throws org.springframework.dao.DataIntegrityViolationException if a username or
+	 *         email was taken meanwhile -- none of these users is inserted
+	 */
+	@Transactional
+	public int insert(List<UserEntity> users) {
+		// Flushed here, through the repository, so a constraint violation is translated
+		userRepository.saveAllAndFlush(users);
+		// Before commit: a rollback only leaves a false positive, never a false negative
+		users.forEach(user -> userExistenceFilter.add(user.getUsername(), user.getEmail()));
+		return users.size();
+	}
+}
@@ -2,13 +2,26 @@ package com.eduproject.service.impl;
 
 import com.eduproject.exception.UserNotFoundException;
 import com.eduproject.model.UserResponse;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.eduproject.config.CacheConfig;
+import com.eduproject.event.SeatsChangedEvent;
+import com.eduproject.index.UserExistenceFilter;
+import com.eduproject.index.UserExistenceFilter.Field;
+import com.eduproject.mapper.UserMapper;
 import com.eduproject.model.Role;
+import com.eduproject.model.UserAccount;
 import com.eduproject.model.UserEntity;
 import com.eduproject.model.UserRequest;
+import com.eduproject.repository.CourseRepository;
+import com.eduproject.repository.EnrollmentRepository;
 import com.eduproject.repository.UserRepository;
 import com.eduproject.service.UserService;
 
@@ -18,6 +31,7 @@ import lombok.extern.slf4j.Slf4j;
 import java.util.List;
 
 @Service
+@Timed(value = "edupro.service", histogram = true, description = "Service method latency")
 @RequiredArgsConstructor
 @Slf4j
 public class UserServiceImpl implements UserService {
@@ -25,6 +39,11 @@ public class UserServiceImpl implements UserService {
 
 	private final PasswordEncoder passwordEncoder;
 	private final UserRepository userRepository;
+	private final EnrollmentRepository enrollmentRepository;
+	private final CourseRepository courseRepository;
+	private final UserExistenceFilter userExistenceFilter;
+	private final CacheManager cacheManager;
+	private final ApplicationEventPublisher eventPublisher;
 
 	@Override
 	@Transactional
@@ -41,19 +60,21 @@ public class UserServiceImpl implements UserService {
 				.build();
 
 		UserEntity saved = userRepository.save(user);
+		// Before commit: a rollback only leaves a false positive, never a false negative
+		userExistenceFilter.add(saved.getUsername(), saved.getEmail());
 		return saved.getFullName();
 	}
 
 	@Override
 	@Transactional(readOnly = true)
 	public boolean existsByEmail(String email) {
-		return userRepository.existsByEmail(email);
+		return userExistenceFilter.exists(Field.EMAIL, email, userRepository::existsByEmail);
 	}
 
 	@Override
 	@Transactional(readOnly = true)
 	public boolean existsByUsername(String username) {
-		return userRepository.existsByUsername(username);
+		return userExistenceFilter.exists(Field.USERNAME, username, userRepository::existsByUsername);
 	}
 
 	@Override
@@ -61,20 +82,21 @@ public class UserServiceImpl implements UserService {
 	public UserResponse getUserById(Long id) {
 		log.info("Retrieving user by id: {}", id);
 		return this.userRepository.findById(id)
-                .map(this::toUserResponseDTO)
+                .map(UserMapper::toResponse)
                 .orElseThrow(() -> new UserNotFoundException("User not found with Id : " + id));
 	}
 
 	@Override
 	@Transactional(readOnly = true)
 	public Long getUserIdByUsername(String username) {
-		return userRepository.findByUsername(username).map(UserEntity::getId).orElse(null);
+		UserAccount account = userRepository.findAccountByUsername(username);
+		return account == null ? null : account.id();
 	}
 
     @Override
     @Transactional(readOnly = true)
     public List<UserResponse> getAllUsers() {
-        return userRepository.findAll().stream().map(this::toUserResponseDTO).toList();
+        return userRepository.findAll().stream().map(UserMapper::toResponse).toList();
     }
 
     @Transactional
@@ -99,51 +121,63 @@ public class UserServiceImpl implements UserService {
             user.setLastName(userRespDTO.getLastName());
         }
 
-        if (userRespDTO.getEmail() != null) {
+        if (userRespDTO.getEmail() != null && !userRespDTO.getEmail().equals(user.getEmail())) {
             user.setEmail(userRespDTO.getEmail());
+            userExistenceFilter.add(user.getUsername(), user.getEmail());
+            userExistenceFilter.recordStaleEntry();
         }
 
         userRepository.save(user);
+        evictUserDetails(user.getUsername());
         return "User with id " + userRespDTO.getId() + " updated successfully";
     }
     @Override
     @Transactional(readOnly = true)
     public boolean existsByEmailExcludingCurrentUser(String email, Long currentUserId) {
-        return userRepository.existsByEmailAndIdNot(email, currentUserId);
+        return userExistenceFilter.mightContain(Field.EMAIL, email)
+                && userRepository.existsByEmailAndIdNot(email, currentUserId);
     }
 
     @Override
     @Transactional(readOnly = true)
     public boolean existsByUsernameExcludingCurrentUser(String username, Long currentUserId) {
-        return userRepository.existsByUsernameAndIdNot(username, currentUserId);
+        return userExistenceFilter.mightContain(Field.USERNAME, username)
+                && userRepository.existsByUsernameAndIdNot(username, currentUserId);
     }
 
     @Override
     @Transactional
+    // Seat counts of the user's courses change; cached course details would show stale seats
+    @CacheEvict(cacheNames = CacheConfig.COURSES, allEntries = true)
     public void deleteUserById(Long id) {
 
-        if (!this.userRepository.existsById(id))
-        {
-            throw new UserNotFoundException("User not found with Id : " + id);
+        UserEntity user = this.userRepository.findById(id)
+                .orElseThrow(() -> new UserNotFoundException("User not found with Id : " + id));
+        // Enrollments reference the user (FK), so they go first -- after giving their seats back
+        if (this.courseRepository.releaseSeatsHeldBy(id) > 0) {
+            this.eventPublisher.publishEvent(SeatsChangedEvent.anyCourse());
         }
-        this.userRepository.deleteById(id);
+        this.enrollmentRepository.deleteByUserId(id);
+        this.userRepository.delete(user);
+        evictUserDetails(user.getUsername());
+        this.userExistenceFilter.recordStaleEntry();
         log.info("User with id {} has been deleted successfully", id);
     }
 
 
-    private UserResponse toUserResponseDTO(UserEntity user) {
-        return UserResponse.builder()
-                .id(user.getId())
-                .username(user.getUsername())
-                .firstName(user.getFirstName())
-                .lastName(user.getLastName())
-                .email(user.getEmail())
-                .fullName(user.getFullName())
-                .createdAt(user.getCreatedAt().toString())
-                .lastUpdatedAt(user.getUpdatedAt() == null ? "Never Updated" : user.getUpdatedAt().toString())
-                .role(user.getRole().toString())
-                .isActive(user.isEnabled())
-                .build();
+    /**
+     * Drops the cached authentication entry (UserRepository.findAccountByUsername).
+     *
+     * Evicted twice: right away, and again after commit (the transaction-aware cache
+     * defers evict()), so a login racing this transaction cannot re-cache the old row
+     * for the rest of the TTL.
+     */
+    private void evictUserDetails(String username) {
+        Cache cache = cacheManager.getCache(CacheConfig.USER_DETAILS);
+        if (cache != null) {
+            cache.evictIfPresent(username);
+            cache.evict(username);
+        }
     }
 }
 
@@ -74,6 +74,47 @@ document.addEventListener('DOMContentLoaded', function () {
     });
 });
 
+/* ================================================================
+   3. TITLE AUTOCOMPLETE
+   ================================================================
+   Any <input data-autocomplete="/courses/autocomplete" list="...">
+   gets course-title suggestions in its <datalist> while typing.
+
+   CONCEPTS USED:
+   - Debouncing     : wait 150ms after the last keystroke before asking
+                      the server, instead of one request per key
+   - fetch()        : HTTP request returning a Promise (JSON here)
+   - <datalist>     : native browser dropdown, no library needed
+   ================================================================ */
+
+document.addEventListener('DOMContentLoaded', function () {
+    document.querySelectorAll('input[data-autocomplete]').forEach(function (input) {
+        var list = document.getElementById(input.getAttribute('list'));
+        var timer;
+
+        input.addEventListener('input', function () {
+            clearTimeout(timer);
+            var prefix = input.value.trim();
+            if (!prefix) {
+                list.innerHTML = '';
+                return;
+            }
+            timer = setTimeout(function () {
+                fetch(input.dataset.autocomplete + '?q=' + encodeURIComponent(prefix))
+                    .then(function (response) { return response.ok ? response.json() : []; })
+                    .then(function (suggestions) {
+                        list.innerHTML = '';
+                        suggestions.forEach(function (suggestion) {
+                            var option = document.createElement('option');
+                            option.value = suggestion.title;
+                            list.appendChild(option);
+                        });
+                    });
+            }, 150);
+        });
+    });
+});
+
 function confirmDeleteUser(UserName){
     return confirm('Are you sure you want to delete your profile with user Name :"' + UserName + '"?\n\nThis action cannot be undone.');
 }
@@ -0,0 +1,86 @@
+package com.eduproject.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for AsyncAccessLog: a list sink instead of the "access" logger;
+ * close() drains everything recorded, so assertions after it are deterministic.
+ */
+@DisplayName("AsyncAccessLog Unit Tests")
+class AsyncAccessLogTest {
+
+	private final List<String> lines = new CopyOnWriteArrayList<>();
+
+	@Test
+	@DisplayName("should write one structured line per request, in order")
+	void shouldWriteStructuredLines() {
+		AsyncAccessLog accessLog = new AsyncAccessLog(16, lines::add);
+
+		accessLog.record(0L, "GET", "/courses", "page=2", 200, 1_840_000);
+		accessLog.record(1_000L, "POST", "/login", null, 302, 95_000_000);
+		accessLog.close();
+
+		assertThat(lines).containsExactly(
+				"ts=1970-01-01T00:00:00Z method=GET uri=/courses query=page=2 status=200 micros=1840",
+				"ts=1970-01-01T00:00:01Z method=POST uri=/login status=302 micros=95000");
+	}
+
+	@Test
+	@DisplayName("should drop instead of blocking when the writer falls behind")
+	void shouldDropWhenFull() throws InterruptedException {
+		CountDownLatch writing = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		AsyncAccessLog accessLog = new AsyncAccessLog(4, line -> {
+			writing.countDown();
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			lines.add(line);
+		});
+
+		assertThat(accessLog.record(0L, "GET", "/0", null, 200, 0)).isTrue();
+		assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();   // writer is stuck on the first line
+		for (int i = 1; i <= 4; i++) {
+			assertThat(accessLog.record(0L, "GET", "/" + i, null, 200, 0)).isTrue();
+		}
+		assertThat(accessLog.record(0L, "GET", "/overflow", null, 200, 0)).isFalse();
+		assertThat(accessLog.droppedCount()).isEqualTo(1);
+
+		release.countDown();
+		accessLog.close();
+		assertThat(lines).hasSize(5).noneMatch(line -> line.contains("/overflow"));
+	}
+
+	@Test
+	@DisplayName("concurrent producers should lose nothing while the ring has room")
+	void shouldAcceptConcurrentProducers() throws InterruptedException {
+		AsyncAccessLog accessLog = new AsyncAccessLog(1 << 16, lines::add);
+		ExecutorService pool = Executors.newFixedThreadPool(8);
+		for (int t = 0; t < 8; t++) {
+			int thread = t;
+			pool.execute(() -> {
+				for (int i = 0; i < 1_000; i++) {
+					accessLog.record(0L, "GET", "/t" + thread, String.valueOf(i), 200, 0);
+				}
+			});
+		}
+		pool.shutdown();
+		assertThat(pool.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+		accessLog.close();
+
+		assertThat(accessLog.droppedCount()).isZero();
+		assertThat(lines).hasSize(8_000).doesNotHaveDuplicates();
+	}
+}
@@ -0,0 +1,109 @@
+package com.eduproject.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.NoOpPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.eduproject.exception.PasswordHashingBusyException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests for BoundedPasswordEncoder: a delegate that blocks on a latch stands
+ * in for a slow BCrypt, so saturation is deterministic.
+ */
+@DisplayName("BoundedPasswordEncoder Unit Tests")
+class BoundedPasswordEncoderTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private final CountDownLatch release = new CountDownLatch(1);
+
+	private BoundedPasswordEncoder encoder;
+
+	@AfterEach
+	void tearDown() {
+		release.countDown();
+		encoder.close();
+	}
+
+	@SuppressWarnings("deprecation")
+	private PasswordEncoder blockingDelegate() {
+		return new PasswordEncoder() {
+			@Override
+			public String encode(CharSequence rawPassword) {
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				return NoOpPasswordEncoder.getInstance().encode(rawPassword);
+			}
+
+			@Override
+			public boolean matches(CharSequence rawPassword, String encodedPassword) {
+				return encode(rawPassword).equals(encodedPassword);
+			}
+		};
+	}
+
+	@Test
+	@DisplayName("should delegate encode and matches and record hash timings")
+	void shouldDelegate() {
+		encoder = new BoundedPasswordEncoder(blockingDelegate(), 1, 1, Duration.ofSeconds(5), Duration.ofSeconds(3), meterRegistry);
+		release.countDown();
+
+		assertThat(encoder.encode("secret")).isEqualTo("secret");
+		assertThat(encoder.matches("secret", "secret")).isTrue();
+		assertThat(meterRegistry.get("edupro.password.hashing").tag("operation", "encode").timer().count()).isEqualTo(1);
+		assertThat(meterRegistry.get("edupro.password.hashing").tag("operation", "matches").timer().count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("should reject immediately with Retry-After once threads and queue are full")
+	void shouldRejectWhenSaturated() throws Exception {
+		encoder = new BoundedPasswordEncoder(blockingDelegate(), 1, 1, Duration.ofSeconds(5), Duration.ofSeconds(3), meterRegistry);
+
+		// One hash running, one queued -- submitted in turn, or "b" could find "a" still in the queue
+		CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("a"));
+		awaitGauge("executor.active", 1);
+		CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("b"));
+		awaitGauge("executor.queued", 1);
+
+		assertThatThrownBy(() -> encoder.encode("c"))
+				.isInstanceOf(PasswordHashingBusyException.class)
+				.satisfies(e -> assertThat(((PasswordHashingBusyException) e).getRetryAfter()).hasSeconds(3));
+		assertThat(meterRegistry.get("edupro.password.hashing.rejected").counter().count()).isEqualTo(1);
+
+		release.countDown();
+		assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("a");
+		assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("b");
+	}
+
+	private void awaitGauge(String name, double atLeast) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (meterRegistry.get(name).tag("name", "passwordHashing").gauge().value() < atLeast
+				&& System.nanoTime() < deadline) {
+			Thread.sleep(5);
+		}
+	}
+
+	@Test
+	@DisplayName("should give up with 503 after max-wait instead of blocking the caller indefinitely")
+	void shouldTimeOut() {
+		encoder = new BoundedPasswordEncoder(blockingDelegate(), 1, 10, Duration.ofMillis(100), Duration.ofSeconds(1), meterRegistry);
+
+		assertThatThrownBy(() -> encoder.matches("slow", "slow"))
+				.isInstanceOf(PasswordHashingBusyException.class);
+	}
+}
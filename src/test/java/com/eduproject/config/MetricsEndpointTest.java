@@ -0,0 +1,83 @@
+package com.eduproject.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrlPattern;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * The Prometheus scrape endpoint: what it exposes, and that only localhost may read it
+ * (or any other actuator endpoint but health/info).
+ *
+ * @AutoConfigureObservability: Spring Boot tests disable metrics export by default.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@DisplayName("Prometheus Endpoint Tests")
+class MetricsEndpointTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Test
+	@DisplayName("should expose handler, service, Hibernate and Hikari metrics with histograms")
+	void prometheus_shouldExposeApplicationMetrics() throws Exception {
+		mockMvc.perform(get("/courses")).andExpect(status().isOk());
+
+		String scrape = mockMvc.perform(get("/actuator/prometheus"))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString();
+
+		assertThat(scrape)
+				.contains("edupro_controller_seconds_bucket{")
+				.contains("class=\"com.eduproject.controller.CourseController\"")
+				.contains("edupro_service_seconds_bucket{")
+				.contains("http_server_requests_seconds_bucket{")
+				.contains("hibernate_query_executions_total")
+				.contains("hibernate_entities_loads_total")
+				.contains("hibernate_flushes_total")
+				.contains("hikaricp_connections_pending")
+				.contains("hikaricp_connections_acquire_seconds_bucket");
+	}
+
+	@Test
+	@DisplayName("should refuse scrapes from other hosts")
+	void prometheus_shouldBeLocalOnly() throws Exception {
+		mockMvc.perform(get("/actuator/prometheus").with(request -> {
+					request.setRemoteAddr("10.1.2.3");
+					return request;
+				}))
+				// Anonymous + denied = sent to the login page, like any protected URL
+				.andExpect(status().is3xxRedirection())
+				.andExpect(redirectedUrlPattern("**/login"));
+	}
+
+	@Test
+	@DisplayName("metrics, caches and beans should be local-only too; health should stay public")
+	void otherEndpoints_shouldBeLocalOnlyExceptHealth() throws Exception {
+		for (String endpoint : new String[]{"/actuator/metrics", "/actuator/metrics/http.server.requests",
+				"/actuator/caches", "/actuator/beans"}) {
+			mockMvc.perform(get(endpoint).with(request -> {
+						request.setRemoteAddr("10.1.2.3");
+						return request;
+					}))
+					.andExpect(status().is3xxRedirection())
+					.andExpect(redirectedUrlPattern("**/login"));
+		}
+		mockMvc.perform(get("/actuator/metrics")).andExpect(status().isOk());
+		mockMvc.perform(get("/actuator/health").with(request -> {
+					request.setRemoteAddr("10.1.2.3");
+					return request;
+				}))
+				.andExpect(status().isOk());
+	}
+}
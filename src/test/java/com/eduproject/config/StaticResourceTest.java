@@ -0,0 +1,105 @@
+package com.eduproject.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Fingerprinted links in the pages, precompressed variants and the cache headers
+ * set by StaticResourceConfig.
+ *
+ * The .gz files come from the build (precompress-static in pom.xml), so this runs
+ * against target/classes like the application does; where the build had no gzip
+ * binary there is no variant to serve, and the gzip test is skipped.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@DisplayName("Static Resource Tests")
+class StaticResourceTest {
+
+	private static final Pattern STYLESHEET = Pattern.compile("href=\"(/css/style-[0-9a-f]{32}\\.css)\"");
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Test
+	@DisplayName("pages should link the fingerprinted stylesheet and script")
+	void pages_shouldLinkFingerprintedAssets() throws Exception {
+		String page = mockMvc.perform(get("/login"))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString();
+
+		assertThat(page).containsPattern(STYLESHEET).containsPattern("src=\"/js/app-[0-9a-f]{32}\\.js\"");
+	}
+
+	@Test
+	@DisplayName("fingerprinted URL should be immutable")
+	void fingerprinted_shouldBeImmutable() throws Exception {
+		mockMvc.perform(get(stylesheetUrl()))
+				.andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=31536000, public, immutable"));
+	}
+
+	@Test
+	@DisplayName("fingerprinted URL should serve the gzip variant when the build wrote one")
+	void fingerprinted_shouldBePrecompressed() throws Exception {
+		assumeTrue(new ClassPathResource("static/css/style.css.gz").exists(), "no gzip on PATH at build time");
+
+		mockMvc.perform(get(stylesheetUrl()).header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+				.andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+				.andExpect(header().string(HttpHeaders.VARY, "Accept-Encoding"))
+				.andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=31536000, public, immutable"));
+	}
+
+	@Test
+	@DisplayName("fingerprinted 304 should keep the immutable header")
+	void fingerprinted_notModified_shouldStayImmutable() throws Exception {
+		String url = stylesheetUrl();
+		String lastModified = mockMvc.perform(get(url)).andReturn().getResponse().getHeader(HttpHeaders.LAST_MODIFIED);
+
+		mockMvc.perform(get(url).header(HttpHeaders.IF_MODIFIED_SINCE, lastModified))
+				.andExpect(status().isNotModified())
+				.andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=31536000, public, immutable"));
+	}
+
+	@Test
+	@DisplayName("unknown fingerprint should be a 404 that is not cached as immutable")
+	void wrongFingerprint_shouldNotBeImmutable() throws Exception {
+		mockMvc.perform(get("/css/style-0123456789abcdef0123456789abcdef.css"))
+				.andExpect(status().isNotFound())
+				.andExpect(header().string(HttpHeaders.CACHE_CONTROL, not(containsString("immutable"))));
+	}
+
+	@Test
+	@DisplayName("plain URL should still work but revalidate")
+	void plain_shouldRevalidate() throws Exception {
+		mockMvc.perform(get("/css/style.css"))
+				.andExpect(status().isOk())
+				.andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+				.andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"));
+	}
+
+	private String stylesheetUrl() throws Exception {
+		String page = mockMvc.perform(get("/login")).andReturn().getResponse().getContentAsString();
+		Matcher matcher = STYLESHEET.matcher(page);
+		assertThat(matcher.find()).as("fingerprinted stylesheet link").isTrue();
+		return matcher.group(1);
+	}
+}
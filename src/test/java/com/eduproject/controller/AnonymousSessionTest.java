@@ -0,0 +1,69 @@
+package com.eduproject.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.eduproject.model.CreateCourseRequest;
+import com.eduproject.repository.CourseRepository;
+import com.eduproject.service.CourseService;
+
+/**
+ * Anonymous browsing of public pages must not create HTTP sessions.
+ *
+ * Runs against the real embedded Tomcat (not MockMvc), so "no session" is asserted
+ * the way a crawler would see it: no Set-Cookie: JSESSIONID on the response.
+ * (/login is not on the list: its form carries a CSRF token, which lives in the session.)
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@DisplayName("Anonymous Session Tests")
+class AnonymousSessionTest {
+
+	@Autowired
+	private TestRestTemplate restTemplate;
+
+	@Autowired
+	private CourseService courseService;
+
+	@Autowired
+	private CourseRepository courseRepository;
+
+	@ParameterizedTest(name = "GET {0}")
+	@ValueSource(strings = {"/", "/?logout", "/courses", "/courses/{id}", "/courses/search?q=java", "/api/courses"})
+	@DisplayName("public pages should render without issuing a session cookie")
+	void publicPage_shouldNotCreateSession(String path) {
+		ResponseEntity<String> response = restTemplate.getForEntity(path, String.class, publicCourseId());
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(response.getHeaders().get(HttpHeaders.SET_COOKIE)).isNull();
+	}
+
+	@Test
+	@DisplayName("the logout message should come from the query flag")
+	void logoutFlag_shouldShowMessage() {
+		assertThat(restTemplate.getForObject("/?logout", String.class)).contains("You have been logged out successfully.");
+		assertThat(restTemplate.getForObject("/", String.class)).doesNotContain("logged out");
+	}
+
+	private Long publicCourseId() {
+		String title = "Anonymous Browsing";
+		return courseRepository.findByTitle(title)
+				.orElseGet(() -> {
+					courseService.createCourse(new CreateCourseRequest(
+							null, title, "No session needed", 5, BigDecimal.ZERO, "Crawler", null));
+					return courseRepository.findByTitle(title).orElseThrow();
+				})
+				.getId();
+	}
+}
@@ -0,0 +1,101 @@
+package com.eduproject.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.eduproject.model.CourseResponse;
+import com.eduproject.repository.CourseRepository;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * /api/courses against the seeded catalog: paging, lookup, both export formats.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@DisplayName("Course API Controller Tests")
+class CourseApiControllerTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private CourseRepository courseRepository;
+
+	@Test
+	@DisplayName("pages should chain through nextCursor without gaps or repeats")
+	void listCourses_shouldFollowCursors() throws Exception {
+		String first = mockMvc.perform(get("/api/courses").param("size", "2"))
+				.andExpect(status().isOk())
+				.andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+				.andExpect(jsonPath("$.courses.length()").value(2))
+				.andExpect(jsonPath("$.previousCursor").doesNotExist())
+				.andExpect(jsonPath("$.nextCursor").isString())
+				.andReturn().getResponse().getContentAsString();
+		String next = objectMapper.readTree(first).get("nextCursor").asText();
+		long lastId = objectMapper.readTree(first).get("courses").get(1).get("id").asLong();
+
+		String second = mockMvc.perform(get("/api/courses").param("size", "2").param("after", next))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.previousCursor").isString())
+				.andReturn().getResponse().getContentAsString();
+
+		assertThat(objectMapper.readTree(second).get("courses").get(0).get("id").asLong()).isNotEqualTo(lastId);
+	}
+
+	@Test
+	@DisplayName("unknown course should be a 404 problem document")
+	void getCourse_unknown_shouldReturnProblem() throws Exception {
+		mockMvc.perform(get("/api/courses/{id}", 999_999_999L))
+				.andExpect(status().isNotFound())
+				.andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_PROBLEM_JSON))
+				.andExpect(jsonPath("$.status").value(404));
+	}
+
+	@Test
+	@DisplayName("JSON export should be one array of every course in id order")
+	void exportJson_shouldContainWholeCatalog() throws Exception {
+		String body = mockMvc.perform(get("/api/courses/export").accept(MediaType.APPLICATION_JSON))
+				.andExpect(status().isOk())
+				.andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+				.andReturn().getResponse().getContentAsString();
+
+		List<CourseResponse> courses = objectMapper.readValue(body, new TypeReference<>() {
+		});
+		assertThat(courses).hasSize((int) courseRepository.count());
+		assertThat(courses).extracting(CourseResponse::getId).isSorted();
+		assertThat(courses).allSatisfy(course -> assertThat(course.getTitle()).isNotBlank());
+	}
+
+	@Test
+	@DisplayName("NDJSON export should be one course per line")
+	void exportNdjson_shouldWriteOneCoursePerLine() throws Exception {
+		String body = mockMvc.perform(get("/api/courses/export").accept(CourseApiController.NDJSON))
+				.andExpect(status().isOk())
+				.andExpect(content().contentTypeCompatibleWith(CourseApiController.NDJSON))
+				.andReturn().getResponse().getContentAsString();
+
+		List<String> lines = body.lines().toList();
+		assertThat(body).endsWith("\n");
+		assertThat(lines).hasSize((int) courseRepository.count());
+		for (String line : lines) {
+			assertThat(objectMapper.readValue(line, CourseResponse.class).getId()).isNotNull();
+		}
+	}
+}
@@ -1,9 +1,18 @@
 package com.eduproject.controller;
 
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.flash;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.model;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -12,18 +21,30 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import java.math.BigDecimal;
 import java.util.List;
 
-import com.eduproject.model.CreateCourseRequest;
+import com.eduproject.model.BulkEnrollmentResult;
+import com.eduproject.model.CoursePage;
+import com.eduproject.model.CourseSuggestion;
+import com.eduproject.model.CourseResponse;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import com.eduproject.exception.CourseFullException;
+import com.eduproject.config.CacheConfig;
 import com.eduproject.config.SecurityConfig;
+import com.eduproject.event.CourseChangedEvent;
+import com.eduproject.event.SeatsChangedEvent;
 import com.eduproject.service.CourseService;
 
 /**
@@ -53,16 +74,39 @@ import com.eduproject.service.CourseService;
  *   → Tests the full request → controller → view pipeline.
  */
 @WebMvcTest(CourseController.class)
-@Import(SecurityConfig.class)
+@Import({SecurityConfig.class, CacheConfig.class, CatalogVersion.class, CatalogFragmentCache.class})
 @DisplayName("CourseController Web Tests")
 class CourseControllerTest {
 
 	@Autowired
 	private MockMvc mockMvc;
 
+	@Autowired
+	private CatalogVersion catalogVersion;
+
+	@Autowired
+	private CacheManager cacheManager;
+
 	@MockitoBean
 	private CourseService courseService;
 
+	private static CourseResponse sampleCourse(BigDecimal fees) {
+		CourseResponse course = new CourseResponse();
+		course.setId(1L);
+		course.setTitle("Java");
+		course.setDescription("Learn Java");
+		course.setDurationInHours(40);
+		course.setFees(fees);
+		course.setInstructor("John");
+		return course;
+	}
+
+	@BeforeEach
+	void clearCatalogHtml() {
+		// The rendered catalog is keyed by version and page, not by the mocked data
+		cacheManager.getCache(CacheConfig.COURSE_CATALOG_HTML).clear();
+	}
+
 	// ==================== GET /courses ====================
 
 	@Nested
@@ -72,15 +116,125 @@ class CourseControllerTest {
 		@Test
 		@DisplayName("should return course list view with model data")
 		void shouldReturnListView() throws Exception {
-			CreateCourseRequest course = new CreateCourseRequest(1L, "Java", "Learn Java", 40, null, "John");
-			when(courseService.getAllCourses()).thenReturn(List.of(course));
+			CourseResponse course = sampleCourse(null);
+			when(courseService.loadCoursePage(null, null, 20))
+					.thenReturn(new CoursePage(List.of(course), null, null, 20));
 			when(courseService.getCourseCount()).thenReturn(1L);
 
 			mockMvc.perform(get("/courses"))
 					.andExpect(status().isOk())
 					.andExpect(view().name("course/list"))
-					.andExpect(model().attributeExists("courses", "courseCount"))
-					.andExpect(model().attribute("courseCount", 1L));
+					.andExpect(model().attributeExists("catalogHtml", "courseCount"))
+					.andExpect(model().attribute("courseCount", 1L))
+					.andExpect(content().string(containsString(">Java</a>")));
+		}
+
+		@Test
+		@DisplayName("should render the catalog once per version and serve the cached HTML after that")
+		void shouldServeCachedCatalogHtml() throws Exception {
+			when(courseService.loadCoursePage(null, null, 20))
+					.thenReturn(new CoursePage(List.of(sampleCourse(null)), null, null, 20));
+
+			mockMvc.perform(get("/courses")).andExpect(status().isOk());
+			mockMvc.perform(get("/courses")).andExpect(content().string(containsString(">Java</a>")));
+			verify(courseService, times(1)).loadCoursePage(null, null, 20);
+
+			catalogVersion.onCourseChanged(CourseChangedEvent.deleted(2L));
+			mockMvc.perform(get("/courses")).andExpect(status().isOk());
+			verify(courseService, times(2)).loadCoursePage(null, null, 20);
+		}
+
+		@Test
+		@DisplayName("should not cache a render when the catalog changed while it loaded")
+		void shouldNotCacheRenderRacingCourseChange() throws Exception {
+			when(courseService.loadCoursePage(null, null, 20)).thenAnswer(invocation -> {
+				// An admin's commit lands while this page is being read
+				catalogVersion.onCourseChanged(CourseChangedEvent.deleted(2L));
+				return new CoursePage(List.of(sampleCourse(null)), null, null, 20);
+			}).thenReturn(new CoursePage(List.of(sampleCourse(null)), null, null, 20));
+
+			mockMvc.perform(get("/courses")).andExpect(content().string(containsString(">Java</a>")));
+			mockMvc.perform(get("/courses")).andExpect(status().isOk());
+			mockMvc.perform(get("/courses")).andExpect(status().isOk());
+
+			// First render served but not kept; the second is cached for the new version
+			verify(courseService, times(2)).loadCoursePage(null, null, 20);
+			verify(courseService, never()).getCoursePage(null, null, 20);
+		}
+
+		@Test
+		@WithMockUser(roles = "ADMIN")
+		@DisplayName("admins should get the table rendered per request, with their actions")
+		void adminShouldBypassCatalogCache() throws Exception {
+			when(courseService.getCoursePage(null, null, 20))
+					.thenReturn(new CoursePage(List.of(sampleCourse(null)), null, null, 20));
+
+			mockMvc.perform(get("/courses"))
+					.andExpect(status().isOk())
+					.andExpect(model().attributeDoesNotExist("catalogHtml"))
+					.andExpect(model().attributeExists("courses", "page"))
+					.andExpect(content().string(containsString("/courses/1/delete")));
+			mockMvc.perform(get("/courses"))
+					.andExpect(content().string(containsString("/courses/1/edit")));
+			verify(courseService, times(2)).getCoursePage(null, null, 20);
+		}
+
+		@Test
+		@DisplayName("should pass cursor to service and render next link")
+		void shouldPassCursorAndRenderNextLink() throws Exception {
+			CourseResponse course = sampleCourse(null);
+			when(courseService.loadCoursePage("abc", null, 5))
+					.thenReturn(new CoursePage(List.of(course), "prev", "next", 5));
+
+			mockMvc.perform(get("/courses").param("after", "abc").param("size", "5"))
+					.andExpect(status().isOk())
+					.andExpect(content().string(containsString("/courses?after=next&amp;size=5")))
+					.andExpect(content().string(containsString("/courses?before=prev&amp;size=5")));
+		}
+
+		@Test
+		@DisplayName("should answer a matching If-None-Match with 304 without loading the page")
+		void shouldReturnNotModified() throws Exception {
+			when(courseService.loadCoursePage(null, null, 20))
+					.thenReturn(new CoursePage(List.of(sampleCourse(null)), null, null, 20));
+			String etag = mockMvc.perform(get("/courses"))
+					.andExpect(status().isOk())
+					.andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, public"))
+					.andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+					.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+			mockMvc.perform(get("/courses").header(HttpHeaders.IF_NONE_MATCH, etag))
+					.andExpect(status().isNotModified());
+
+			verify(courseService).loadCoursePage(null, null, 20);
+		}
+
+		@Test
+		@DisplayName("should change the ETag once a course changes")
+		void shouldChangeEtagAfterCourseChange() throws Exception {
+			when(courseService.loadCoursePage(null, null, 20))
+					.thenReturn(new CoursePage(List.of(sampleCourse(null)), null, null, 20));
+			String etag = mockMvc.perform(get("/courses")).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+			catalogVersion.onSeatsChanged(SeatsChangedEvent.forCourse(1L));
+			mockMvc.perform(get("/courses").header(HttpHeaders.IF_NONE_MATCH, etag))
+					.andExpect(status().isNotModified());
+
+			catalogVersion.onCourseChanged(CourseChangedEvent.deleted(2L));
+			mockMvc.perform(get("/courses").header(HttpHeaders.IF_NONE_MATCH, etag))
+					.andExpect(status().isOk());
+		}
+
+		@Test
+		@WithMockUser
+		@DisplayName("should not offer validators to logged-in users")
+		void shouldNotCacheForLoggedInUsers() throws Exception {
+			when(courseService.loadCoursePage(null, null, 20))
+					.thenReturn(new CoursePage(List.of(sampleCourse(null)), null, null, 20));
+
+			mockMvc.perform(get("/courses").header(HttpHeaders.IF_NONE_MATCH, "*"))
+					.andExpect(status().isOk())
+					.andExpect(header().doesNotExist(HttpHeaders.ETAG));
 		}
 	}
 
@@ -93,7 +247,7 @@ class CourseControllerTest {
 		@Test
 		@DisplayName("should return course view with course data")
 		void shouldReturnViewPage() throws Exception {
-			CreateCourseRequest course = new CreateCourseRequest(1L, "Java", "Learn Java", 40, BigDecimal.valueOf(5000), "John");
+			CourseResponse course = sampleCourse(BigDecimal.valueOf(5000));
 			when(courseService.getCourseById(1L)).thenReturn(course);
 
 			mockMvc.perform(get("/courses/1"))
@@ -101,6 +255,28 @@ class CourseControllerTest {
 					.andExpect(view().name("course/view"))
 					.andExpect(model().attribute("course", course));
 		}
+
+		@Test
+		@DisplayName("should tag the page with version and seats and answer 304 on a match")
+		void shouldReturnNotModified() throws Exception {
+			CourseResponse course = sampleCourse(BigDecimal.valueOf(5000));
+			course.setVersion(3);
+			course.setEnrolledCount(7);
+			when(courseService.getCourseById(1L)).thenReturn(course);
+
+			mockMvc.perform(get("/courses/1"))
+					.andExpect(status().isOk())
+					.andExpect(header().string(HttpHeaders.ETAG, "\"course-1-3-7\""))
+					.andExpect(header().string(HttpHeaders.VARY, containsString(HttpHeaders.COOKIE)));
+
+			mockMvc.perform(get("/courses/1").header(HttpHeaders.IF_NONE_MATCH, "\"course-1-3-7\""))
+					.andExpect(status().isNotModified());
+
+			course.setEnrolledCount(8);
+			mockMvc.perform(get("/courses/1").header(HttpHeaders.IF_NONE_MATCH, "\"course-1-3-7\""))
+					.andExpect(status().isOk());
+			verify(courseService, never()).isCourseAlreadyEnrolled(any(), any());
+		}
 	}
 
 	// ==================== GET /courses/new (ADMIN) ====================
@@ -179,6 +355,24 @@ class CourseControllerTest {
 					.andExpect(view().name("course/form"))
 					.andExpect(model().attributeHasFieldErrors("courseDTO", "title"));
 		}
+
+		@Test
+		@WithMockUser(roles = "ADMIN")
+		@DisplayName("should show the duplicate error when the unique constraint catches a race")
+		void shouldRejectDuplicateFromConstraint() throws Exception {
+			when(courseService.existsByTitle("Spring Boot")).thenReturn(false);
+			doThrow(new DataIntegrityViolationException("UK_TITLE"))
+					.when(courseService).createCourse(org.mockito.ArgumentMatchers.any());
+
+			mockMvc.perform(post("/courses")
+							.with(csrf())
+							.param("title", "Spring Boot")
+							.param("description", "A course")
+							.param("durationInHours", "30"))
+					.andExpect(status().isOk())
+					.andExpect(view().name("course/form"))
+					.andExpect(model().attributeHasFieldErrors("courseDTO", "title"));
+		}
 	}
 
 	// ==================== POST /courses/{id}/delete (ADMIN) ====================
@@ -191,7 +385,7 @@ class CourseControllerTest {
 		@WithMockUser(roles = "ADMIN")
 		@DisplayName("should delete and redirect")
 		void shouldDeleteAndRedirect() throws Exception {
-			CreateCourseRequest course = new CreateCourseRequest(1L, "Java", "Learn Java", 40, null, "John");
+			CourseResponse course = sampleCourse(null);
 			when(courseService.getCourseById(1L)).thenReturn(course);
 
 			mockMvc.perform(post("/courses/1/delete").with(csrf()))
@@ -199,4 +393,115 @@ class CourseControllerTest {
 					.andExpect(redirectedUrl("/courses"));
 		}
 	}
+
+	// ==================== POST /courses/enroll ====================
+
+	@Nested
+	@DisplayName("POST /courses/enroll")
+	class Enroll {
+
+		@Test
+		@WithMockUser(username = "king")
+		@DisplayName("should enroll and redirect back to the course")
+		void shouldEnroll() throws Exception {
+			mockMvc.perform(post("/courses/enroll").with(csrf()).param("courseId", "1"))
+					.andExpect(status().is3xxRedirection())
+					.andExpect(redirectedUrl("/courses/1"))
+					.andExpect(flash().attributeExists("successMessage"));
+
+			verify(courseService).enrollUser(1L, "king");
+		}
+
+		@Test
+		@WithMockUser(username = "king")
+		@DisplayName("should report a duplicate when a concurrent request enrolled first")
+		void shouldHandleDuplicateRace() throws Exception {
+			doThrow(new DataIntegrityViolationException("PK")).when(courseService).enrollUser(1L, "king");
+
+			mockMvc.perform(post("/courses/enroll").with(csrf()).param("courseId", "1"))
+					.andExpect(status().is3xxRedirection())
+					.andExpect(redirectedUrl("/courses/1"))
+					.andExpect(flash().attribute("errorMessage", "You are already enrolled in this course."));
+		}
+
+		@Test
+		@WithMockUser(username = "king")
+		@DisplayName("should report a full course instead of enrolling")
+		void shouldRejectWhenFull() throws Exception {
+			doThrow(new CourseFullException("full")).when(courseService).enrollUser(1L, "king");
+
+			mockMvc.perform(post("/courses/enroll").with(csrf()).param("courseId", "1"))
+					.andExpect(status().is3xxRedirection())
+					.andExpect(redirectedUrl("/courses/1"))
+					.andExpect(flash().attribute("errorMessage", "Sorry, this course is full."));
+		}
+	}
+
+	// ==================== POST /courses/{id}/enroll-bulk (ADMIN) ====================
+
+	@Nested
+	@DisplayName("POST /courses/{id}/enroll-bulk")
+	class EnrollBulk {
+
+		@Test
+		@WithMockUser(roles = "ADMIN")
+		@DisplayName("should split the textarea and report the result")
+		void shouldEnrollCohort() throws Exception {
+			when(courseService.enrollUsers(1L, List.of("alice", "bob", "ghost")))
+					.thenReturn(new BulkEnrollmentResult(3, 1, 1, List.of("ghost")));
+
+			mockMvc.perform(post("/courses/1/enroll-bulk").with(csrf()).param("usernames", "alice\r\nbob, ghost"))
+					.andExpect(status().is3xxRedirection())
+					.andExpect(redirectedUrl("/courses/1"))
+					.andExpect(flash().attribute("successMessage",
+							"Enrolled 1 student(s); 1 already enrolled. Unknown usernames: ghost"));
+		}
+
+		@Test
+		@WithMockUser(username = "king")
+		@DisplayName("should be forbidden for non-admins")
+		void shouldForbidStudents() throws Exception {
+			mockMvc.perform(post("/courses/1/enroll-bulk").with(csrf()).param("usernames", "king"))
+					.andExpect(status().isForbidden());
+		}
+	}
+
+	// ==================== GET /courses/search ====================
+
+	@Nested
+	@DisplayName("GET /courses/search")
+	class Search {
+
+		@Test
+		@DisplayName("should render ranked results for anonymous users")
+		void shouldRenderResults() throws Exception {
+			when(courseService.searchCourses("spring", CourseService.DEFAULT_PAGE_SIZE))
+					.thenReturn(List.of(sampleCourse(BigDecimal.TEN)));
+
+			mockMvc.perform(get("/courses/search").param("q", "spring"))
+					.andExpect(status().isOk())
+					.andExpect(view().name("course/search"))
+					.andExpect(model().attribute("query", "spring"))
+					.andExpect(content().string(containsString("Learn Java")));
+		}
+	}
+
+	// ==================== GET /courses/autocomplete ====================
+
+	@Nested
+	@DisplayName("GET /courses/autocomplete")
+	class Autocomplete {
+
+		@Test
+		@DisplayName("should return title suggestions as JSON")
+		void shouldReturnJson() throws Exception {
+			when(courseService.suggestTitles("spr", CourseService.SUGGESTION_LIMIT))
+					.thenReturn(List.of(new CourseSuggestion(1L, "Spring Boot")));
+
+			mockMvc.perform(get("/courses/autocomplete").param("q", "spr"))
+					.andExpect(status().isOk())
+					.andExpect(content().contentType(MediaType.APPLICATION_JSON))
+					.andExpect(content().json("[{\"id\":1,\"title\":\"Spring Boot\"}]"));
+		}
+	}
 }
@@ -0,0 +1,109 @@
+package com.eduproject.controller;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.flash;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.InputStream;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.eduproject.config.SecurityConfig;
+import com.eduproject.exception.InvalidImportFileException;
+import com.eduproject.model.CourseImportResult;
+import com.eduproject.model.ImportFormat;
+import com.eduproject.service.CourseImportService;
+
+@WebMvcTest(CourseImportController.class)
+@Import(SecurityConfig.class)
+@DisplayName("CourseImportController Web Tests")
+class CourseImportControllerTest {
+
+	private static final MockMultipartFile CSV =
+			new MockMultipartFile("file", "courses.csv", "text/csv", "title,description\nJava,Learn Java\n".getBytes());
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@MockitoBean
+	private CourseImportService courseImportService;
+
+	@Test
+	@WithMockUser(roles = "ADMIN")
+	@DisplayName("admin upload should import and redirect with the report")
+	void upload_asAdmin_shouldImport() throws Exception {
+		CourseImportResult result = new CourseImportResult(1, 1, 0, 0, List.of(), 5);
+		when(courseImportService.importCourses(any(InputStream.class), eq(ImportFormat.CSV))).thenReturn(result);
+
+		mockMvc.perform(multipart("/courses/import").file(CSV).with(csrf()))
+				.andExpect(status().is3xxRedirection())
+				.andExpect(redirectedUrl("/courses/import"))
+				.andExpect(flash().attribute("importResult", result))
+				.andExpect(flash().attribute("successMessage", "Imported 1 course(s) from 1 row(s) in 5 ms."));
+	}
+
+	@Test
+	@WithMockUser(roles = "ADMIN")
+	@DisplayName("the report should render the listed errors and how many more there were")
+	void form_shouldRenderReport() throws Exception {
+		CourseImportResult result = new CourseImportResult(30, 5, 1, 24, List.of("Line 3: Course title is required"), 10);
+
+		mockMvc.perform(get("/courses/import").flashAttr("importResult", result))
+				.andExpect(status().isOk())
+				.andExpect(content().string(containsString("Line 3: Course title is required")))
+				.andExpect(content().string(containsString("… and 23 more.")));
+	}
+
+	@Test
+	@WithMockUser(roles = "ADMIN")
+	@DisplayName("unsupported file types should be refused before reading them")
+	void upload_unsupportedFile_shouldShowError() throws Exception {
+		MockMultipartFile excel = new MockMultipartFile("file", "courses.xlsx", "application/octet-stream", new byte[]{1});
+
+		mockMvc.perform(multipart("/courses/import").file(excel).with(csrf()))
+				.andExpect(redirectedUrl("/courses/import"))
+				.andExpect(flash().attribute("errorMessage", "Choose a non-empty .csv or .ndjson file."));
+		verifyNoInteractions(courseImportService);
+	}
+
+	@Test
+	@WithMockUser(roles = "ADMIN")
+	@DisplayName("an unreadable file should report that nothing was imported")
+	void upload_invalidFile_shouldShowError() throws Exception {
+		when(courseImportService.importCourses(any(InputStream.class), eq(ImportFormat.CSV)))
+				.thenThrow(new InvalidImportFileException("Missing columns."));
+
+		mockMvc.perform(multipart("/courses/import").file(CSV).with(csrf()))
+				.andExpect(flash().attribute("errorMessage", "Missing columns. Nothing was imported."));
+		verify(courseImportService).importCourses(any(InputStream.class), eq(ImportFormat.CSV));
+	}
+
+	@Test
+	@WithMockUser(roles = "STUDENT")
+	@DisplayName("students should not reach the import")
+	void upload_asStudent_shouldBeForbidden() throws Exception {
+		mockMvc.perform(multipart("/courses/import").file(CSV).with(csrf()))
+				.andExpect(status().isForbidden());
+		mockMvc.perform(get("/courses/import")).andExpect(status().isForbidden());
+		verifyNoInteractions(courseImportService);
+	}
+}
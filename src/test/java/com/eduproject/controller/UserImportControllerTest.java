@@ -0,0 +1,116 @@
+package com.eduproject.controller;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.flash;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.eduproject.config.SecurityConfig;
+import com.eduproject.exception.InvalidImportFileException;
+import com.eduproject.model.ImportFormat;
+import com.eduproject.model.UserImportJob;
+import com.eduproject.service.UserImportService;
+
+@WebMvcTest(UserImportController.class)
+@Import(SecurityConfig.class)
+@DisplayName("UserImportController Web Tests")
+class UserImportControllerTest {
+
+	private static final MockMultipartFile CSV = new MockMultipartFile("file", "students.csv", "text/csv",
+			"username,password,firstName,email\nada,secret,Ada,ada@x.test\n".getBytes());
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@MockitoBean
+	private UserImportService userImportService;
+
+	@Test
+	@WithMockUser(roles = "ADMIN")
+	@DisplayName("admin upload should start a job and redirect to its progress")
+	void upload_asAdmin_shouldStartJob() throws Exception {
+		when(userImportService.startImport(eq("students.csv"), eq(ImportFormat.CSV), any(Path.class)))
+				.thenReturn(new UserImportJob(7, "students.csv"));
+
+		mockMvc.perform(multipart("/users/import").file(CSV).with(csrf()))
+				.andExpect(status().is3xxRedirection())
+				.andExpect(redirectedUrl("/users/import/7"));
+	}
+
+	@Test
+	@WithMockUser(roles = "ADMIN")
+	@DisplayName("a running job should show its percentage and refresh itself")
+	void progress_running_shouldRefresh() throws Exception {
+		UserImportJob job = new UserImportJob(3, "students.csv");
+		job.start(200);
+		job.rowsImported(99);
+		job.rowFailed(5, "Email should be valid");
+		when(userImportService.getJob(3)).thenReturn(Optional.of(job));
+
+		mockMvc.perform(get("/users/import/3"))
+				.andExpect(status().isOk())
+				.andExpect(content().string(containsString("http-equiv=\"refresh\" content=\"2\"")))
+				.andExpect(content().string(containsString("50%")))
+				.andExpect(content().string(containsString("Line 5: Email should be valid")));
+	}
+
+	@Test
+	@WithMockUser(roles = "ADMIN")
+	@DisplayName("a finished job should stop refreshing")
+	void progress_completed_shouldNotRefresh() throws Exception {
+		UserImportJob job = new UserImportJob(4, "students.csv");
+		job.start(1);
+		job.rowsImported(1);
+		job.complete();
+		when(userImportService.getJob(4)).thenReturn(Optional.of(job));
+
+		mockMvc.perform(get("/users/import/4"))
+				.andExpect(status().isOk())
+				.andExpect(content().string(containsString("Imported <strong>1</strong> student(s)")))
+				.andExpect(content().string(not(containsString("http-equiv=\"refresh\" content=\"2\""))));
+	}
+
+	@Test
+	@WithMockUser(roles = "ADMIN")
+	@DisplayName("a CSV without the required columns should report that nothing was imported")
+	void upload_invalidFile_shouldShowError() throws Exception {
+		when(userImportService.startImport(any(), any(), any())).thenThrow(new InvalidImportFileException("Missing columns."));
+
+		mockMvc.perform(multipart("/users/import").file(CSV).with(csrf()))
+				.andExpect(redirectedUrl("/users/import"))
+				.andExpect(flash().attribute("errorMessage", "Missing columns. Nothing was imported."));
+	}
+
+	@Test
+	@WithMockUser(roles = "STUDENT")
+	@DisplayName("students should not reach the import")
+	void upload_asStudent_shouldBeForbidden() throws Exception {
+		mockMvc.perform(multipart("/users/import").file(CSV).with(csrf()))
+				.andExpect(status().isForbidden());
+		mockMvc.perform(get("/users/import")).andExpect(status().isForbidden());
+		mockMvc.perform(get("/users/import/1")).andExpect(status().isForbidden());
+		verifyNoInteractions(userImportService);
+	}
+}
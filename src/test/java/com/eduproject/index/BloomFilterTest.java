@@ -0,0 +1,49 @@
+package com.eduproject.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for BloomFilter: no false negatives, false-positive rate near the target.
+ */
+@DisplayName("BloomFilter Unit Tests")
+class BloomFilterTest {
+
+	private static final int N = 50_000;
+
+	@Test
+	@DisplayName("every inserted value should be reported as present")
+	void mightContain_shouldHaveNoFalseNegatives() {
+		BloomFilter filter = BloomFilter.create(N, 0.01);
+		IntStream.range(0, N).forEach(i -> filter.put("user" + i));
+
+		assertThat(IntStream.range(0, N).allMatch(i -> filter.mightContain("user" + i))).isTrue();
+	}
+
+	@Test
+	@DisplayName("false-positive rate at capacity should stay close to the configured fpp")
+	void mightContain_shouldMeetFalsePositiveTarget() {
+		BloomFilter filter = BloomFilter.create(N, 0.01);
+		IntStream.range(0, N).forEach(i -> filter.put("user" + i + "@example.com"));
+
+		long falsePositives = IntStream.range(0, N)
+				.filter(i -> filter.mightContain("absent" + i + "@example.com"))
+				.count();
+
+		assertThat((double) falsePositives / N).isLessThan(0.02);
+		assertThat(filter.expectedFpp()).isBetween(0.005, 0.02);
+	}
+
+	@Test
+	@DisplayName("an empty filter should contain nothing")
+	void emptyFilter_shouldContainNothing() {
+		BloomFilter filter = BloomFilter.create(1000, 0.01);
+
+		assertThat(filter.mightContain("anyone")).isFalse();
+		assertThat(filter.expectedFpp()).isZero();
+	}
+}
@@ -0,0 +1,59 @@
+package com.eduproject.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for CourseSearchIndex: plain object, no Spring context.
+ */
+@DisplayName("CourseSearchIndex Unit Tests")
+class CourseSearchIndexTest {
+
+	private CourseSearchIndex index;
+
+	@BeforeEach
+	void setUp() {
+		index = new CourseSearchIndex();
+		index.index(new CourseDocument(1L, "Spring Boot", "Build REST APIs with Java", "Jane Smith"));
+		index.index(new CourseDocument(2L, "Java Programming", "Learn Java from scratch", "John Doe"));
+		index.index(new CourseDocument(3L, "Microservices", "Spring Cloud and Spring Boot in practice", "Bob Brown"));
+	}
+
+	@Test
+	@DisplayName("title matches should rank above description matches")
+	void search_shouldRankTitleFirst() {
+		assertThat(index.search("java", 10)).containsExactly(2L, 1L);
+		// One title hit (weight 3) beats two description hits (weight 2)
+		assertThat(index.search("spring", 10)).containsExactly(1L, 3L);
+	}
+
+	@Test
+	@DisplayName("all terms must match, the last one as a prefix")
+	void search_shouldAndTermsAndPrefixLastTerm() {
+		assertThat(index.search("spring clo", 10)).containsExactly(3L);
+		assertThat(index.search("Smith, boo", 10)).containsExactly(1L);
+		assertThat(index.search("java cobol", 10)).isEmpty();
+		assertThat(index.search("  ", 10)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("re-indexing and removing should replace the old postings")
+	void index_shouldReplaceAndRemove() {
+		index.index(new CourseDocument(2L, "Kotlin Programming", "Learn Kotlin", "John Doe"));
+		assertThat(index.search("java", 10)).containsExactly(1L);
+		assertThat(index.search("kotlin", 10)).containsExactly(2L);
+
+		index.remove(1L);
+		assertThat(index.search("java", 10)).isEmpty();
+		assertThat(index.size()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("limit should cut the ranked list")
+	void search_shouldRespectLimit() {
+		assertThat(index.search("spring", 1)).containsExactly(1L);
+	}
+}
@@ -0,0 +1,71 @@
+package com.eduproject.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.eduproject.model.CourseSuggestion;
+
+/**
+ * Unit tests for CourseTitleIndex: plain object, no Spring context.
+ */
+@DisplayName("CourseTitleIndex Unit Tests")
+class CourseTitleIndexTest {
+
+	private CourseTitleIndex index;
+
+	@BeforeEach
+	void setUp() {
+		index = new CourseTitleIndex();
+		index.replaceAll(List.of(
+				new CourseDocument(1L, "Spring Boot", null, null),
+				new CourseDocument(2L, "Java Programming", null, null),
+				new CourseDocument(3L, "spring cloud", null, null),
+				new CourseDocument(4L, "Spark", null, null)));
+	}
+
+	@Test
+	@DisplayName("suggest should match prefixes case-insensitively, alphabetically")
+	void suggest_shouldMatchPrefix() {
+		assertThat(index.suggest("SPR", 10)).extracting(CourseSuggestion::title)
+				.containsExactly("Spring Boot", "spring cloud");
+		assertThat(index.suggest("sp", 2)).extracting(CourseSuggestion::id).containsExactly(4L, 1L);
+		assertThat(index.suggest("python", 10)).isEmpty();
+		assertThat(index.suggest(" ", 10)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("findIdByTitle should be exact and case-sensitive, like the unique constraint")
+	void findIdByTitle_shouldMatchExactTitle() {
+		assertThat(index.findIdByTitle("Spring Boot")).contains(1L);
+		assertThat(index.findIdByTitle("spring boot")).isEmpty();
+		assertThat(index.findIdByTitle("Spring")).isEmpty();
+	}
+
+	@Test
+	@DisplayName("put should rename in place and remove should drop the title")
+	void putAndRemove_shouldUpdateSnapshot() {
+		index.put(2L, "Kotlin Programming");
+		index.put(5L, "Angular");
+		index.remove(4L);
+
+		assertThat(index.findIdByTitle("Java Programming")).isEmpty();
+		assertThat(index.findIdByTitle("Kotlin Programming")).contains(2L);
+		assertThat(index.suggest("a", 10)).extracting(CourseSuggestion::id).containsExactly(5L);
+		assertThat(index.suggest("sp", 10)).extracting(CourseSuggestion::id).containsExactly(1L, 3L);
+	}
+
+	@Test
+	@DisplayName("should not be ready before the first build")
+	void newIndex_shouldNotBeReady() {
+		CourseTitleIndex empty = new CourseTitleIndex();
+
+		assertThat(empty.isReady()).isFalse();
+		assertThat(empty.suggest("s", 10)).isEmpty();
+		assertThat(index.isReady()).isTrue();
+	}
+}
@@ -0,0 +1,149 @@
+package com.eduproject.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.eduproject.index.UserExistenceFilter.Field;
+import com.eduproject.repository.UserRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests for UserExistenceFilter: repository mocked, real meter registry.
+ */
+@DisplayName("UserExistenceFilter Unit Tests")
+class UserExistenceFilterTest {
+
+	private UserRepository userRepository;
+
+	private SimpleMeterRegistry meterRegistry;
+
+	private UserExistenceFilter filter;
+
+	private final AtomicInteger databaseCalls = new AtomicInteger();
+
+	@BeforeEach
+	void setUp() {
+		userRepository = mock(UserRepository.class);
+		meterRegistry = new SimpleMeterRegistry();
+		filter = new UserExistenceFilter(userRepository, meterRegistry, Runnable::run, 1000, 0.01);
+	}
+
+	private boolean database(String value) {
+		databaseCalls.incrementAndGet();
+		return value.startsWith("taken");
+	}
+
+	private void buildWith(UserRepository.UserKeys... users) {
+		when(userRepository.count()).thenReturn((long) users.length);
+		when(userRepository.findKeysAfter(anyLong(), any(Limit.class))).thenReturn(List.of(users), List.of());
+		filter.rebuild();
+	}
+
+	private static UserRepository.UserKeys user(long id, String username, String email) {
+		UserRepository.UserKeys keys = mock(UserRepository.UserKeys.class);
+		when(keys.getId()).thenReturn(id);
+		when(keys.getUsername()).thenReturn(username);
+		when(keys.getEmail()).thenReturn(email);
+		return keys;
+	}
+
+	@Test
+	@DisplayName("before the first build every check should go to the database")
+	void notBuilt_shouldAskDatabase() {
+		assertThat(filter.exists(Field.USERNAME, "fresh", this::database)).isFalse();
+		assertThat(filter.exists(Field.USERNAME, "taken1", this::database)).isTrue();
+		assertThat(databaseCalls).hasValue(2);
+	}
+
+	@Test
+	@DisplayName("a definite negative should skip the database and be counted")
+	void negative_shouldSkipDatabase() {
+		buildWith(user(1, "taken1", "taken1@example.com"));
+
+		assertThat(filter.exists(Field.USERNAME, "fresh", this::database)).isFalse();
+		assertThat(filter.exists(Field.EMAIL, "fresh@example.com", this::database)).isFalse();
+		assertThat(databaseCalls).hasValue(0);
+		assertThat(meterRegistry.get("edupro.bloom.checks").tag("field", "username").tag("result", "negative")
+				.counter().count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("existing and newly added values should always reach the database")
+	void present_shouldNeverBeFalseNegative() {
+		buildWith(user(1, "taken1", "taken1@example.com"));
+		filter.add("taken2", "taken2@example.com");
+
+		assertThat(filter.exists(Field.USERNAME, "taken1", this::database)).isTrue();
+		assertThat(filter.exists(Field.USERNAME, "taken2", this::database)).isTrue();
+		assertThat(filter.exists(Field.EMAIL, "taken2@example.com", this::database)).isTrue();
+		assertThat(meterRegistry.get("edupro.bloom.checks").tag("field", "username").tag("result", "true_positive")
+				.counter().count()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("observed false-positive rate should be false positives over all absent values checked")
+	void falsePositiveRate_shouldBeExposed() {
+		buildWith(user(1, "deleted", "deleted@example.com"));
+		filter.recordStaleEntry();
+
+		filter.exists(Field.USERNAME, "deleted", this::database);   // filter hit, database says no
+		filter.exists(Field.USERNAME, "fresh", this::database);     // definite negative
+
+		assertThat(meterRegistry.get("edupro.bloom.false.positive.rate").tag("field", "username")
+				.gauge().value()).isEqualTo(0.5);
+		assertThat(meterRegistry.get("edupro.bloom.expected.fpp").tag("field", "username")
+				.gauge().value()).isBetween(0.0, 0.01);
+	}
+
+	@Test
+	@DisplayName("an add committed while a rebuild scans should survive the swap")
+	void addCommittedDuringRebuild_shouldNotBeLost() {
+		buildWith(user(1, "taken1", "taken1@example.com"));
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			// Added before the rebuild starts; its transaction commits only once the scan is past it
+			filter.add("late", "late@example.com");
+			List<TransactionSynchronization> transaction = TransactionSynchronizationManager.getSynchronizations();
+			when(userRepository.findKeysAfter(anyLong(), any(Limit.class))).thenAnswer(invocation -> {
+				transaction.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+				return List.of();
+			});
+			filter.rebuild();
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+
+		assertThat(filter.mightContain(Field.USERNAME, "late")).isTrue();
+		assertThat(filter.mightContain(Field.EMAIL, "late@example.com")).isTrue();
+	}
+
+	@Test
+	@DisplayName("an add still uncommitted when a rebuild swaps should be copied into the new filter")
+	void addOpenAtSwap_shouldNotBeLost() {
+		buildWith(user(1, "taken1", "taken1@example.com"));
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			filter.add("pending", "pending@example.com");
+			buildWith();
+
+			assertThat(filter.mightContain(Field.USERNAME, "pending")).isTrue();
+			assertThat(filter.mightContain(Field.EMAIL, "pending@example.com")).isTrue();
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+}
@@ -0,0 +1,170 @@
+package com.eduproject.load;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop HTTP load generator, JDK only (no dependencies), so it runs from
+ * target/test-classes against any running instance of the app.
+ *
+ * {@code concurrency} workers each send the next GET as soon as the previous one
+ * completes. The first {@code warmup} is discarded; latencies of the following
+ * {@code duration} are reported as percentiles. Latency is measured per request
+ * (closed loop: not corrected for coordinated omission).
+ *
+ * A {@code {id}} in the path is replaced by a random id from {@code ids} per request.
+ *
+ *   java -cp target/test-classes com.eduproject.load.HttpLoadClient \
+ *        --base http://localhost:8080 --path /courses/{id} --ids 100000-100004 \
+ *        --concurrency 400 --warmup 10 --duration 30
+ */
+public final class HttpLoadClient {
+
+	private HttpLoadClient() {
+	}
+
+	public record Result(String path, int concurrency, long requests, long errors, double seconds, long[] sortedMicros) {
+
+		public double throughput() {
+			return requests / seconds;
+		}
+
+		public double percentileMillis(double percentile) {
+			if (sortedMicros.length == 0) {
+				return Double.NaN;
+			}
+			int index = (int) Math.ceil(percentile / 100.0 * sortedMicros.length) - 1;
+			return sortedMicros[Math.max(0, Math.min(index, sortedMicros.length - 1))] / 1000.0;
+		}
+
+		public double errorRate() {
+			return requests == 0 ? 0 : (double) errors / requests;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("path=%s concurrency=%d requests=%d rps=%.0f p50=%.2fms p95=%.2fms p99=%.2fms max=%.2fms errors=%d",
+					path, concurrency, requests, throughput(), percentileMillis(50), percentileMillis(95),
+					percentileMillis(99), percentileMillis(100), errors);
+		}
+	}
+
+	public static Result run(URI base, String path, long[] ids, int concurrency, Duration warmup, Duration duration)
+			throws InterruptedException {
+		HttpClient client = HttpClient.newBuilder()
+				.version(HttpClient.Version.HTTP_1_1)
+				.connectTimeout(Duration.ofSeconds(5))
+				.build();
+		AtomicLong errors = new AtomicLong();
+		List<long[]> perWorker = new ArrayList<>(concurrency);
+		int[] counts = new int[concurrency];
+		long measureFrom = System.nanoTime() + warmup.toNanos();
+		long stopAt = measureFrom + duration.toNanos();
+
+		ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+		CountDownLatch done = new CountDownLatch(concurrency);
+		for (int w = 0; w < concurrency; w++) {
+			int worker = w;
+			perWorker.add(new long[1 << 12]);
+			workers.execute(() -> {
+				try {
+					long now;
+					while ((now = System.nanoTime()) < stopAt) {
+						boolean ok = send(client, base.resolve(expand(path, ids)));
+						long end = System.nanoTime();
+						if (now >= measureFrom) {
+							long[] samples = perWorker.get(worker);
+							if (counts[worker] == samples.length) {
+								samples = Arrays.copyOf(samples, samples.length * 2);
+								perWorker.set(worker, samples);
+							}
+							samples[counts[worker]++] = (end - now) / 1_000;
+							if (!ok) {
+								errors.incrementAndGet();
+							}
+						}
+					}
+				} finally {
+					done.countDown();
+				}
+			});
+		}
+		done.await();
+		workers.shutdown();
+
+		int total = Arrays.stream(counts).sum();
+		long[] all = new long[total];
+		int offset = 0;
+		for (int w = 0; w < concurrency; w++) {
+			System.arraycopy(perWorker.get(w), 0, all, offset, counts[w]);
+			offset += counts[w];
+		}
+		Arrays.sort(all);
+		return new Result(path, concurrency, total, errors.get(), duration.toNanos() / 1e9, all);
+	}
+
+	private static boolean send(HttpClient client, URI uri) {
+		try {
+			HttpResponse<Void> response = client.send(HttpRequest.newBuilder(uri).GET().build(),
+					HttpResponse.BodyHandlers.discarding());
+			return response.statusCode() < 400;
+		} catch (IOException e) {
+			return false;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	private static String expand(String path, long[] ids) {
+		return ids.length == 0 ? path
+				: path.replace("{id}", String.valueOf(ids[ThreadLocalRandom.current().nextInt(ids.length)]));
+	}
+
+	/** "100000-100004" or "1,5,9" */
+	static long[] parseIds(String spec) {
+		if (spec == null || spec.isBlank()) {
+			return new long[0];
+		}
+		if (spec.contains("-")) {
+			String[] range = spec.split("-");
+			long from = Long.parseLong(range[0].trim());
+			long to = Long.parseLong(range[1].trim());
+			long[] ids = new long[(int) (to - from + 1)];
+			for (int i = 0; i < ids.length; i++) {
+				ids[i] = from + i;
+			}
+			return ids;
+		}
+		return Arrays.stream(spec.split(",")).map(String::trim).mapToLong(Long::parseLong).toArray();
+	}
+
+	public static void main(String[] args) throws InterruptedException {
+		Map<String, String> options = new HashMap<>();
+		for (int i = 0; i + 1 < args.length; i += 2) {
+			options.put(args[i].replaceFirst("^--", ""), args[i + 1]);
+		}
+		Result result = run(
+				URI.create(options.getOrDefault("base", "http://localhost:8080")),
+				options.getOrDefault("path", "/courses"),
+				parseIds(options.get("ids")),
+				Integer.parseInt(options.getOrDefault("concurrency", "200")),
+				Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup", "10"))),
+				Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "30"))));
+		System.out.println(result);
+	}
+}
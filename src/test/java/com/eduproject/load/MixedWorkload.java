@@ -0,0 +1,300 @@
+package com.eduproject.load;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Closed-loop, multi-step load generator: each worker is one browser-like user
+ * (own cookie jar, CSRF token taken from the page it just rendered) that keeps
+ * picking the next {@link Action} from a weighted mix.
+ *
+ * An action's latency is the whole user-visible step -- e.g. ENROLL is the course
+ * page plus the POST that follows it -- so a slow filter chain, controller,
+ * template or query shows up in the action that pays for it. Redirects are not
+ * followed: a redirect to /login or to an error page counts as a failed action.
+ *
+ * JDK only, like HttpLoadClient, whose Result is reused for the per-action report.
+ */
+public final class MixedWorkload {
+
+	public enum Action {
+		/** Anonymous: first catalog page. */
+		BROWSE_CATALOG,
+		/** Logged-in student: course detail page (renders the enroll button / membership check). */
+		VIEW_COURSE,
+		/** Fresh session: login page + form POST (one BCrypt verification). */
+		LOGIN,
+		/** Logged-in student: course page + enroll POST. */
+		ENROLL,
+		/** Logged-in admin: edit form + update POST. */
+		ADMIN_EDIT
+	}
+
+	public record Settings(int concurrency, Duration warmup, Duration duration, Map<Action, Integer> weights,
+						   long[] courseIds, List<String> students, String studentPassword,
+						   String adminUsername, String adminPassword) {
+	}
+
+	private static final Pattern CSRF = Pattern.compile("name=\"_csrf\"\\s+value=\"([^\"]+)\"");
+
+	private MixedWorkload() {
+	}
+
+	public static Map<Action, HttpLoadClient.Result> run(URI base, Settings settings) throws InterruptedException {
+		Action[] table = weightTable(settings.weights());
+		long measureFrom = System.nanoTime() + settings.warmup().toNanos();
+		long stopAt = measureFrom + settings.duration().toNanos();
+
+		Recorder[] recorders = new Recorder[settings.concurrency()];
+		ExecutorService workers = Executors.newFixedThreadPool(settings.concurrency());
+		CountDownLatch done = new CountDownLatch(settings.concurrency());
+		for (int w = 0; w < settings.concurrency(); w++) {
+			Recorder recorder = recorders[w] = new Recorder();
+			User user = new User(base, settings, w);
+			workers.execute(() -> {
+				try {
+					while (System.nanoTime() < stopAt) {
+						Action action = table[ThreadLocalRandom.current().nextInt(table.length)];
+						user.prepare(action, System.nanoTime() >= measureFrom ? recorder : null);
+						long start = System.nanoTime();
+						boolean ok = user.perform(action);
+						if (start >= measureFrom) {
+							recorder.record(action, System.nanoTime() - start, ok);
+						}
+					}
+				} finally {
+					done.countDown();
+				}
+			});
+		}
+		done.await();
+		workers.shutdown();
+
+		double seconds = settings.duration().toNanos() / 1e9;
+		Map<Action, HttpLoadClient.Result> results = new LinkedHashMap<>();
+		for (Action action : Action.values()) {
+			if (settings.weights().getOrDefault(action, 0) > 0) {
+				results.put(action, Recorder.merge(recorders, action, settings.concurrency(), seconds));
+			}
+		}
+		return results;
+	}
+
+	private static Action[] weightTable(Map<Action, Integer> weights) {
+		return weights.entrySet().stream()
+				.flatMap(e -> Stream.generate(e::getKey).limit(e.getValue()))
+				.toArray(Action[]::new);
+	}
+
+	/** One simulated user; only ever touched by its own worker thread. */
+	private static final class User {
+
+		private final URI base;
+		private final Settings settings;
+		private final String student;
+		private final long adminCourseId;
+		private final HttpClient anonymous;
+		private final CookieManager studentCookies = new CookieManager();
+		private final HttpClient studentClient;
+		private final HttpClient adminClient;
+		private boolean studentLoggedIn;
+		private boolean adminLoggedIn;
+
+		User(URI base, Settings settings, int index) {
+			this.base = base;
+			this.settings = settings;
+			this.student = settings.students().get(index % settings.students().size());
+			// One course per worker, so two admins never race on the same row version
+			this.adminCourseId = settings.courseIds()[index % settings.courseIds().length];
+			this.anonymous = client(null);
+			this.studentClient = client(studentCookies);
+			this.adminClient = client(new CookieManager());
+		}
+
+		/**
+		 * Logs in first if the action needs a session, outside the action's own timing.
+		 * A student login is still a LOGIN sample (when measuring); the admin logs in once.
+		 */
+		void prepare(Action action, Recorder recorder) {
+			try {
+				if ((action == Action.VIEW_COURSE || action == Action.ENROLL) && !studentLoggedIn) {
+					long start = System.nanoTime();
+					boolean ok = loginStudent();
+					if (recorder != null) {
+						recorder.record(Action.LOGIN, System.nanoTime() - start, ok);
+					}
+				} else if (action == Action.ADMIN_EDIT && !adminLoggedIn) {
+					adminLoggedIn = login(adminClient, settings.adminUsername(), settings.adminPassword());
+				}
+			} catch (IOException e) {
+				// perform() reports the action as failed
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		boolean perform(Action action) {
+			try {
+				return switch (action) {
+					case BROWSE_CATALOG -> ok(anonymous, get("/courses"));
+					case VIEW_COURSE -> studentLoggedIn && ok(studentClient, get("/courses/" + randomCourse()));
+					case LOGIN -> loginStudent();
+					case ENROLL -> studentLoggedIn && enroll();
+					case ADMIN_EDIT -> adminLoggedIn && adminEdit();
+				};
+			} catch (IOException e) {
+				return false;
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return false;
+			}
+		}
+
+		private boolean loginStudent() throws IOException, InterruptedException {
+			studentCookies.getCookieStore().removeAll();
+			studentLoggedIn = login(studentClient, student, settings.studentPassword());
+			return studentLoggedIn;
+		}
+
+		private boolean login(HttpClient client, String username, String password) throws IOException, InterruptedException {
+			String token = csrf(client.send(get("/login"), HttpResponse.BodyHandlers.ofString()));
+			return token != null && ok(client, post("/login", "username", username, "password", password, "_csrf", token));
+		}
+
+		private boolean enroll() throws IOException, InterruptedException {
+			long courseId = randomCourse();
+			HttpResponse<String> page = studentClient.send(get("/courses/" + courseId), HttpResponse.BodyHandlers.ofString());
+			String token = csrf(page);
+			if (token == null) {
+				// Enroll form missing: the session was lost, log in again next time
+				studentLoggedIn = false;
+				return false;
+			}
+			return ok(studentClient, post("/courses/enroll", "courseId", String.valueOf(courseId), "_csrf", token));
+		}
+
+		private boolean adminEdit() throws IOException, InterruptedException {
+			String path = "/courses/" + adminCourseId;
+			String token = csrf(adminClient.send(get(path + "/edit"), HttpResponse.BodyHandlers.ofString()));
+			if (token == null) {
+				adminLoggedIn = false;
+				return false;
+			}
+			return ok(adminClient, post(path, "id", String.valueOf(adminCourseId),
+					"title", "Load Course " + adminCourseId,
+					"description", "Edited under load at " + System.currentTimeMillis(),
+					"durationInHours", "12", "fees", "499.00", "instructor", "Load Admin",
+					"_csrf", token));
+		}
+
+		private long randomCourse() {
+			long[] ids = settings.courseIds();
+			return ids[ThreadLocalRandom.current().nextInt(ids.length)];
+		}
+
+		private HttpRequest get(String path) {
+			return HttpRequest.newBuilder(base.resolve(path)).GET().build();
+		}
+
+		private HttpRequest post(String path, String... form) {
+			StringBuilder body = new StringBuilder();
+			for (int i = 0; i + 1 < form.length; i += 2) {
+				if (body.length() > 0) {
+					body.append('&');
+				}
+				body.append(form[i]).append('=').append(URLEncoder.encode(form[i + 1], StandardCharsets.UTF_8));
+			}
+			return HttpRequest.newBuilder(base.resolve(path))
+					.header("Content-Type", "application/x-www-form-urlencoded")
+					.POST(HttpRequest.BodyPublishers.ofString(body.toString()))
+					.build();
+		}
+
+		/** 2xx, or a redirect that does not bounce to the login or an error page. */
+		private static boolean ok(HttpClient client, HttpRequest request) throws IOException, InterruptedException {
+			HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+			int status = response.statusCode();
+			if (status >= 300 && status < 400) {
+				String location = response.headers().firstValue("Location").orElse("");
+				return !location.contains("/login") && !location.contains("error");
+			}
+			return status < 300;
+		}
+
+		private static String csrf(HttpResponse<String> response) {
+			if (response.statusCode() != 200) {
+				return null;
+			}
+			Matcher matcher = CSRF.matcher(response.body());
+			return matcher.find() ? matcher.group(1) : null;
+		}
+
+		private static HttpClient client(CookieManager cookies) {
+			HttpClient.Builder builder = HttpClient.newBuilder()
+					.version(HttpClient.Version.HTTP_1_1)
+					.connectTimeout(Duration.ofSeconds(5))
+					.followRedirects(HttpClient.Redirect.NEVER);
+			if (cookies != null) {
+				builder.cookieHandler(cookies);
+			}
+			return builder.build();
+		}
+	}
+
+	/** Per-worker latency samples per action, merged once the run is over. */
+	private static final class Recorder {
+
+		private final Map<Action, long[]> samples = new EnumMap<>(Action.class);
+		private final int[] counts = new int[Action.values().length];
+		private final long[] errors = new long[Action.values().length];
+
+		void record(Action action, long nanos, boolean ok) {
+			long[] values = samples.computeIfAbsent(action, a -> new long[1 << 10]);
+			int i = action.ordinal();
+			if (counts[i] == values.length) {
+				values = Arrays.copyOf(values, values.length * 2);
+				samples.put(action, values);
+			}
+			values[counts[i]++] = nanos / 1_000;
+			if (!ok) {
+				errors[i]++;
+			}
+		}
+
+		static HttpLoadClient.Result merge(Recorder[] recorders, Action action, int concurrency, double seconds) {
+			int i = action.ordinal();
+			int total = Arrays.stream(recorders).mapToInt(r -> r.counts[i]).sum();
+			long[] all = new long[total];
+			int offset = 0;
+			long errors = 0;
+			for (Recorder recorder : recorders) {
+				if (recorder.counts[i] > 0) {
+					System.arraycopy(recorder.samples.get(action), 0, all, offset, recorder.counts[i]);
+					offset += recorder.counts[i];
+				}
+				errors += recorder.errors[i];
+			}
+			Arrays.sort(all);
+			return new HttpLoadClient.Result(action.name(), concurrency, total, errors, seconds, all);
+		}
+	}
+}
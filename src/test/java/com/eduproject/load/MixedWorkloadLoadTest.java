@@ -0,0 +1,155 @@
+package com.eduproject.load;
+
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.eduproject.load.MixedWorkload.Action;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Full-stack load test: security filter chain → controllers → Thymeleaf → H2,
+ * on the real embedded Tomcat, driven by MixedWorkload from the same JVM.
+ *
+ * Tagged "load" and excluded from the normal build; run it with
+ *
+ *   mvn -Pload test
+ *   mvn -Pload test -Dload.concurrency=64 -Dload.duration=60 -Dload.courses=20000
+ *
+ * Data volume, mix, duration and the per-action p95/p99 budgets are system
+ * properties (see {@link #setting}); the defaults are sized to pass on a single
+ * CI core. The per-action report is logged before the budgets are checked.
+ */
+@Slf4j
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+		"spring.jpa.show-sql=false",
+		"logging.level.root=WARN",
+		"logging.level.org.hibernate.SQL=WARN",
+		"logging.level.org.springframework.security=WARN",
+		"logging.level.org.springframework.security.web=WARN",
+		"logging.level.org.springframework.security.web.FilterChainProxy=WARN",
+		"logging.level.org.springframework.security.authentication=WARN",
+		"logging.level.com.eduproject.load=INFO"
+})
+@DisplayName("Mixed Workload Load Test")
+class MixedWorkloadLoadTest {
+
+	private static final String STUDENT_PASSWORD = "load123";
+
+	/**
+	 * Default budgets in ms: {p95, p99}. The closed loop keeps the CPU saturated, so on one
+	 * core the ~85 ms BCrypt verification in LOGIN is time-sliced with page rendering and
+	 * takes seconds; its p99 still has to stay under the hashing pool's max-wait (5 s).
+	 */
+	private static final Map<Action, double[]> DEFAULT_BUDGETS = new EnumMap<>(Map.of(
+			Action.BROWSE_CATALOG, new double[]{250, 500},
+			Action.VIEW_COURSE, new double[]{250, 500},
+			Action.LOGIN, new double[]{4000, 4900},
+			Action.ENROLL, new double[]{500, 1000},
+			Action.ADMIN_EDIT, new double[]{500, 1000}));
+
+	private static final Map<Action, Integer> DEFAULT_MIX = new EnumMap<>(Map.of(
+			Action.BROWSE_CATALOG, 43,
+			Action.VIEW_COURSE, 30,
+			Action.LOGIN, 2,
+			Action.ENROLL, 20,
+			Action.ADMIN_EDIT, 5));
+
+	@LocalServerPort
+	private int port;
+
+	@Autowired
+	private JdbcTemplate jdbc;
+
+	@Autowired
+	private PasswordEncoder passwordEncoder;
+
+	@Autowired
+	private CacheManager cacheManager;
+
+	@Test
+	@DisplayName("mixed workload should stay within latency and error budgets")
+	void mixedWorkload_shouldMeetBudgets() throws InterruptedException {
+		long[] courseIds = seedCourses((int) setting("load.courses", 2_000));
+		List<String> students = seedStudents((int) setting("load.students", 500));
+
+		Map<Action, Integer> mix = new EnumMap<>(Action.class);
+		DEFAULT_MIX.forEach((action, weight) -> mix.put(action, (int) setting(key(action, "weight"), weight)));
+
+		MixedWorkload.Settings settings = new MixedWorkload.Settings(
+				(int) setting("load.concurrency", 8),
+				Duration.ofSeconds((long) setting("load.warmup", 10)),
+				Duration.ofSeconds((long) setting("load.duration", 20)),
+				mix, courseIds, students, STUDENT_PASSWORD, "admin", "admin123");
+		Map<Action, HttpLoadClient.Result> results = MixedWorkload.run(URI.create("http://localhost:" + port), settings);
+
+		results.values().forEach(result -> log.info("{}", result));
+
+		double maxErrorRate = setting("load.max-error-rate", 0.01);
+		assertSoftly(softly -> results.forEach((action, result) -> {
+			double[] budget = DEFAULT_BUDGETS.get(action);
+			double p95 = setting(key(action, "p95"), budget[0]);
+			double p99 = setting(key(action, "p99"), budget[1]);
+			softly.assertThat(result.requests()).as("%s requests", action).isPositive();
+			softly.assertThat(result.errorRate()).as("%s error rate", action).isLessThanOrEqualTo(maxErrorRate);
+			softly.assertThat(result.percentileMillis(95)).as("%s p95 ms", action).isLessThanOrEqualTo(p95);
+			softly.assertThat(result.percentileMillis(99)).as("%s p99 ms", action).isLessThanOrEqualTo(p99);
+		}));
+	}
+
+	private long[] seedCourses(int count) {
+		List<Object[]> rows = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			rows.add(new Object[]{"Load Course #" + i, "Seeded for the load test, course " + i, "Instructor " + i % 100});
+		}
+		jdbc.batchUpdate("insert into COURSES (id, COURSE_TITLE, COURSE_DESCRIPTION, COURSE_INSTRUCTOR, "
+				+ "COURSE_DURATION_HOURS, COURSE_FEES, VERSION, ENROLLED_COUNT) "
+				+ "values (next value for SEQ_COURSE, ?, ?, ?, 10, 499.00, 0, 0)", rows);
+		// The catalog pages and count were cached before the rows existed
+		cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+		return jdbc.queryForList("select id from COURSES where COURSE_TITLE like 'Load Course #%' order by id", Long.class)
+				.stream().mapToLong(Long::longValue).toArray();
+	}
+
+	private List<String> seedStudents(int count) {
+		// One hash for everyone: seeding 500 BCrypt hashes would take longer than the test
+		String hash = passwordEncoder.encode(STUDENT_PASSWORD);
+		List<String> usernames = new ArrayList<>(count);
+		List<Object[]> rows = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			String username = "load-student-" + i;
+			usernames.add(username);
+			rows.add(new Object[]{username, hash, username + "@load.local"});
+		}
+		jdbc.batchUpdate("insert into users (id, username, password, first_name, email, role, enabled, created_at) "
+				+ "values (next value for SEQ_USER, ?, ?, 'Load', ?, 'STUDENT', true, current_timestamp)", rows);
+		return usernames;
+	}
+
+	private static String key(Action action, String suffix) {
+		return "load." + action.name().toLowerCase().replace('_', '-') + "." + suffix;
+	}
+
+	/** A -D system property (Maven passes its user properties through to the test JVM), or the default. */
+	private static double setting(String name, double defaultValue) {
+		String value = System.getProperty(name);
+		return value == null || value.isBlank() ? defaultValue : Double.parseDouble(value);
+	}
+}
@@ -0,0 +1,79 @@
+package com.eduproject.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.eduproject.model.CourseEntity;
+import com.eduproject.model.CourseResponse;
+import com.eduproject.model.CreateCourseRequest;
+
+/**
+ * Unit tests for CourseMapper.
+ *
+ * Plain JUnit: the mapper is static and has no Spring dependencies.
+ * These guard against a field being forgotten when CourseEntity grows.
+ */
+@DisplayName("CourseMapper Unit Tests")
+class CourseMapperTest {
+
+	private CourseEntity sampleEntity() {
+		return CourseEntity.builder()
+				.id(7L)
+				.title("Spring Boot")
+				.description("Learn Spring Boot")
+				.durationInHours(30)
+				.instructor("John Doe")
+				.fees(BigDecimal.valueOf(5000))
+				.version(4)
+				.createdBy("admin")
+				.capacity(40)
+				.enrolledCount(12)
+				.build();
+	}
+
+	@Test
+	@DisplayName("toResponse should copy every displayed field")
+	void toResponse_shouldCopyAllFields() {
+		CourseResponse response = CourseMapper.toResponse(sampleEntity());
+
+		assertThat(response).usingRecursiveComparison()
+				.ignoringFields("enrolledCount", "version")
+				.isEqualTo(CourseMapper.toRequest(sampleEntity()));
+		assertThat(response.getId()).isEqualTo(7L);
+		assertThat(response.getEnrolledCount()).isEqualTo(12);
+		assertThat(response.getVersion()).isEqualTo(4);
+		assertThat(response.getSeatsRemaining()).isEqualTo(28);
+		assertThat(response.getFees()).isEqualByComparingTo("5000");
+	}
+
+	@Test
+	@DisplayName("toEntity should leave id and version for JPA to assign")
+	void toEntity_shouldNotCopyId() {
+		CreateCourseRequest request = new CreateCourseRequest(99L, "Title", "Desc", 10, null, "X");
+
+		CourseEntity entity = CourseMapper.toEntity(request);
+
+		assertThat(entity.getId()).isNull();
+		assertThat(entity.getVersion()).isNull();
+		assertThat(entity.getTitle()).isEqualTo("Title");
+	}
+
+	@Test
+	@DisplayName("updateEntity should keep id, version and audit fields")
+	void updateEntity_shouldKeepManagedFields() {
+		CourseEntity entity = sampleEntity();
+		CreateCourseRequest request = new CreateCourseRequest(99L, "New", "New desc", 12, BigDecimal.ONE, "Jane");
+
+		CourseMapper.updateEntity(request, entity);
+
+		assertThat(entity.getId()).isEqualTo(7L);
+		assertThat(entity.getVersion()).isEqualTo(4);
+		assertThat(entity.getCreatedBy()).isEqualTo("admin");
+		assertThat(entity.getTitle()).isEqualTo("New");
+		assertThat(entity.getInstructor()).isEqualTo("Jane");
+	}
+}
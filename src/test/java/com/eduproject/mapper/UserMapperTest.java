@@ -0,0 +1,60 @@
+package com.eduproject.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.eduproject.model.Role;
+import com.eduproject.model.UserEntity;
+import com.eduproject.model.UserResponse;
+
+/**
+ * Unit tests for UserMapper.
+ *
+ * Plain JUnit, like CourseMapperTest.
+ */
+@DisplayName("UserMapper Unit Tests")
+class UserMapperTest {
+
+	private UserEntity sampleUser() {
+		return UserEntity.builder()
+				.id(3L)
+				.username("jdoe")
+				.password("{bcrypt}hash")
+				.firstName("John")
+				.lastName("Doe")
+				.email("jdoe@example.com")
+				.role(Role.STUDENT)
+				.enabled(true)
+				.createdAt(LocalDateTime.of(2024, 1, 2, 3, 4, 5))
+				.build();
+	}
+
+	@Test
+	@DisplayName("toResponse should copy every displayed field and never the password")
+	void toResponse_shouldCopyDisplayedFields() {
+		UserResponse response = UserMapper.toResponse(sampleUser());
+
+		assertThat(response.getId()).isEqualTo(3L);
+		assertThat(response.getUsername()).isEqualTo("jdoe");
+		assertThat(response.getFullName()).isEqualTo("John Doe");
+		assertThat(response.getEmail()).isEqualTo("jdoe@example.com");
+		assertThat(response.getCreatedAt()).isEqualTo("2024-01-02T03:04:05");
+		assertThat(response.getRole()).isEqualTo("STUDENT");
+		assertThat(response.isActive()).isTrue();
+		assertThat(response.toString()).doesNotContain("hash");
+	}
+
+	@Test
+	@DisplayName("toResponse should label a user that was never updated")
+	void toResponse_shouldLabelNeverUpdated() {
+		UserEntity user = sampleUser();
+		assertThat(UserMapper.toResponse(user).getLastUpdatedAt()).isEqualTo("Never Updated");
+
+		user.setUpdatedAt(LocalDateTime.of(2024, 2, 1, 0, 0));
+		assertThat(UserMapper.toResponse(user).getLastUpdatedAt()).isEqualTo("2024-02-01T00:00");
+	}
+}
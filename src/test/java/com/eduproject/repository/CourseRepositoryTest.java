@@ -3,6 +3,7 @@ package com.eduproject.repository;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -10,6 +11,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
 
 import com.eduproject.model.CourseEntity;
 
@@ -106,4 +108,24 @@ class CourseRepositoryTest {
 		courseRepository.deleteById(savedCourse.getId());
 		assertThat(courseRepository.findById(savedCourse.getId())).isEmpty();
 	}
+
+	@Test
+	@DisplayName("keyset queries should page by title in both directions")
+	void keysetQueries_shouldPageByTitle() {
+		for (String title : List.of("Angular", "Docker", "Kotlin")) {
+			courseRepository.save(CourseEntity.builder().title(title).description("d").build());
+		}
+		// Catalog order: Angular, Docker, Kotlin, Spring Boot Masterclass
+
+		List<CourseEntity> first = courseRepository.findAllByOrderByTitleAscIdAsc(Limit.of(2));
+		assertThat(first).extracting(CourseEntity::getTitle).containsExactly("Angular", "Docker");
+
+		CourseEntity last = first.get(1);
+		List<CourseEntity> next = courseRepository.findPageAfter(last.getTitle(), last.getId(), Limit.of(2));
+		assertThat(next).extracting(CourseEntity::getTitle).containsExactly("Kotlin", "Spring Boot Masterclass");
+
+		CourseEntity firstOfNext = next.get(0);
+		List<CourseEntity> previous = courseRepository.findPageBefore(firstOfNext.getTitle(), firstOfNext.getId(), Limit.of(2));
+		assertThat(previous).extracting(CourseEntity::getTitle).containsExactly("Docker", "Angular");
+	}
 }
@@ -0,0 +1,97 @@
+package com.eduproject.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import com.eduproject.model.CourseEntity;
+import com.eduproject.model.EnrollmentEntity;
+import com.eduproject.model.Role;
+import com.eduproject.model.UserEntity;
+
+/**
+ * Repository tests for EnrollmentRepository (@DataJpaTest, rolled back per test).
+ *
+ * Verifies the (COURSE_ID, USER_ID) primary key both answers membership
+ * and rejects a second enrollment of the same user.
+ */
+@DataJpaTest
+@DisplayName("EnrollmentRepository Integration Tests")
+class EnrollmentRepositoryTest {
+
+	@Autowired
+	private EnrollmentRepository enrollmentRepository;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	private CourseEntity course;
+
+	private UserEntity enrolled;
+
+	private UserEntity notEnrolled;
+
+	private UserEntity user(String username) {
+		return entityManager.persist(UserEntity.builder().username(username).password("x")
+				.firstName(username).email(username + "@test.com").role(Role.STUDENT).build());
+	}
+
+	@BeforeEach
+	void setUp() {
+		course = entityManager.persist(CourseEntity.builder().title("Enrollment 101").description("d").build());
+		enrolled = user("alice");
+		notEnrolled = user("bob");
+		enrollmentRepository.saveAndFlush(new EnrollmentEntity(course, enrolled));
+	}
+
+	@Test
+	@DisplayName("existsByIdCourseIdAndUserUsername should reflect membership")
+	void existsBy_shouldReflectMembership() {
+		assertThat(enrollmentRepository.existsByIdCourseIdAndUserUsername(course.getId(), "alice")).isTrue();
+		assertThat(enrollmentRepository.existsByIdCourseIdAndUserUsername(course.getId(), "bob")).isFalse();
+		assertThat(enrollmentRepository.existsByIdCourseIdAndUserUsername(-1L, "alice")).isFalse();
+	}
+
+	@Test
+	@DisplayName("primary key should reject enrolling the same user twice")
+	void duplicateEnrollment_shouldViolatePrimaryKey() {
+		// Raw insert: bypasses the persistence context, so only the database can refuse it
+		assertThatThrownBy(() -> entityManager.getEntityManager()
+				.createNativeQuery("insert into ENROLLMENTS (COURSE_ID, USER_ID) values (?, ?)")
+				.setParameter(1, course.getId())
+				.setParameter(2, enrolled.getId())
+				.executeUpdate())
+				.isInstanceOf(ConstraintViolationException.class);
+	}
+
+	@Test
+	@DisplayName("deleteByCourseId should remove only that course's enrollments")
+	void deleteByCourseId_shouldRemoveEnrollments() {
+		CourseEntity other = entityManager.persist(CourseEntity.builder().title("Other").description("d").build());
+		enrollmentRepository.saveAndFlush(new EnrollmentEntity(other, notEnrolled));
+
+		assertThat(enrollmentRepository.deleteByCourseId(course.getId())).isEqualTo(1);
+		assertThat(enrollmentRepository.countByIdCourseId(other.getId())).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("insertAll should batch-insert rows visible to JPA queries in the same transaction")
+	void insertAll_shouldInsertRows() {
+		UserEntity carol = user("carol");
+		entityManager.flush();
+
+		assertThat(enrollmentRepository.insertAll(course.getId(), List.of(notEnrolled.getId(), carol.getId()))).isEqualTo(2);
+
+		assertThat(enrollmentRepository.findUserIdsByCourseId(course.getId()))
+				.containsExactlyInAnyOrder(enrolled.getId(), notEnrolled.getId(), carol.getId());
+	}
+}
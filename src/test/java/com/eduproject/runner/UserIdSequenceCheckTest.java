@@ -0,0 +1,50 @@
+package com.eduproject.runner;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.eduproject.model.UserEntity;
+
+/**
+ * SEQ_USER against the seeded users table. The sequence is turned back to 1, as
+ * ddl-auto=update would create it next to a table from the IDENTITY days, and
+ * restored ahead of every id handed out so far.
+ */
+@SpringBootTest
+@DisplayName("UserIdSequenceCheck Tests")
+class UserIdSequenceCheckTest {
+
+	@Autowired
+	private UserIdSequenceCheck check;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	@DisplayName("should pass when the sequence is ahead of users.id")
+	void aheadOfIds_shouldPass() {
+		assertThatCode(check::run).doesNotThrowAnyException();
+	}
+
+	@Test
+	@DisplayName("should refuse to start when the sequence would reuse existing ids")
+	void behindIds_shouldThrow() {
+		long next = jdbcTemplate.queryForObject("select next value for SEQ_USER", Long.class);
+		try {
+			jdbcTemplate.execute("alter sequence SEQ_USER restart with 1");
+
+			assertThatThrownBy(check::run)
+					.isInstanceOf(IllegalStateException.class)
+					.hasMessageContaining("create sequence SEQ_USER start with")
+					.hasMessageContaining("increment by " + UserEntity.ID_ALLOCATION_SIZE);
+		} finally {
+			jdbcTemplate.execute("alter sequence SEQ_USER restart with " + (next + UserEntity.ID_ALLOCATION_SIZE));
+		}
+	}
+}
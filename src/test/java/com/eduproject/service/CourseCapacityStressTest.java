@@ -0,0 +1,129 @@
+package com.eduproject.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import com.eduproject.exception.CourseFullException;
+import com.eduproject.model.CreateCourseRequest;
+import com.eduproject.model.Role;
+import com.eduproject.model.UserEntity;
+import com.eduproject.repository.CourseRepository;
+import com.eduproject.repository.EnrollmentRepository;
+import com.eduproject.repository.UserRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Flash-crowd test for seat reservation: many threads enroll distinct students
+ * (plus some double-submits) into one small course at the same moment.
+ *
+ * Asserts the invariant -- never more enrollments than seats, and the seat counter
+ * matches the ENROLLMENTS table -- and logs throughput and rejection counts.
+ */
+@Slf4j
+@SpringBootTest
+@DisplayName("Course Capacity Stress Test")
+class CourseCapacityStressTest {
+
+	private static final int CAPACITY = 50;
+	private static final int STUDENTS = 400;
+	private static final int THREADS = 32;
+
+	@Autowired
+	private CourseService courseService;
+
+	@Autowired
+	private CourseRepository courseRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private EnrollmentRepository enrollmentRepository;
+
+	@Test
+	@DisplayName("concurrent enrollments should fill the course exactly to capacity")
+	void flashCrowd_shouldNeverOversell() throws InterruptedException {
+		String title = "Flash Crowd " + System.nanoTime();
+		courseService.createCourse(new CreateCourseRequest(
+				null, title, "Opens at noon", 10, BigDecimal.ZERO, "Stress", CAPACITY));
+		Long courseId = courseRepository.findByTitle(title).orElseThrow().getId();
+
+		List<UserEntity> students = new ArrayList<>();
+		for (int i = 0; i < STUDENTS; i++) {
+			String username = "crowd" + courseId + "_" + i;
+			students.add(UserEntity.builder()
+					.username(username)
+					.password("{noop}x")
+					.firstName("Crowd")
+					.email(username + "@example.com")
+					.role(Role.STUDENT)
+					.enabled(true)
+					.build());
+		}
+		userRepository.saveAll(students);
+
+		AtomicInteger enrolled = new AtomicInteger();
+		AtomicInteger full = new AtomicInteger();
+		AtomicInteger duplicates = new AtomicInteger();
+		AtomicInteger failures = new AtomicInteger();
+		CountDownLatch start = new CountDownLatch(1);
+		ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+
+		// Every 10th student double-submits, so the duplicate path races the seat path too
+		List<String> attempts = new ArrayList<>();
+		for (int i = 0; i < STUDENTS; i++) {
+			attempts.add(students.get(i).getUsername());
+			if (i % 10 == 0) {
+				attempts.add(students.get(i).getUsername());
+			}
+		}
+		for (String username : attempts) {
+			pool.execute(() -> {
+				try {
+					start.await();
+					courseService.enrollUser(courseId, username);
+					enrolled.incrementAndGet();
+				} catch (CourseFullException e) {
+					full.incrementAndGet();
+				} catch (DataIntegrityViolationException e) {
+					duplicates.incrementAndGet();
+				} catch (Exception e) {
+					log.error("Unexpected enrollment failure", e);
+					failures.incrementAndGet();
+				}
+			});
+		}
+
+		long startNanos = System.nanoTime();
+		start.countDown();
+		pool.shutdown();
+		assertThat(pool.awaitTermination(60, TimeUnit.SECONDS)).isTrue();
+		double seconds = (System.nanoTime() - startNanos) / 1e9;
+
+		log.info("Flash crowd: {} attempts on {} threads in {} ms ({} req/s) -> enrolled={}, full={}, duplicate={}, failed={}",
+				attempts.size(), THREADS, Math.round(seconds * 1000), Math.round(attempts.size() / seconds),
+				enrolled.get(), full.get(), duplicates.get(), failures.get());
+
+		assertThat(failures.get()).isZero();
+		assertThat(enrolled.get()).isEqualTo(CAPACITY);
+		assertThat(enrolled.get() + full.get() + duplicates.get()).isEqualTo(attempts.size());
+		assertThat(enrollmentRepository.countByIdCourseId(courseId)).isEqualTo(CAPACITY);
+		assertThat(courseRepository.findById(courseId).orElseThrow().getEnrolledCount()).isEqualTo(CAPACITY);
+		assertThat(courseService.getCourseById(courseId).isFull()).isTrue();
+	}
+}
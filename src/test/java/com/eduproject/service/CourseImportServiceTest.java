@@ -0,0 +1,119 @@
+package com.eduproject.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.eduproject.controller.CatalogVersion;
+import com.eduproject.exception.InvalidImportFileException;
+import com.eduproject.model.CourseEntity;
+import com.eduproject.model.CourseImportResult;
+import com.eduproject.model.CreateCourseRequest;
+import com.eduproject.model.ImportFormat;
+import com.eduproject.repository.CourseRepository;
+
+/**
+ * Bulk import against H2: what gets inserted, skipped and reported, and that the
+ * catalog (count cache, search index, ETag version) sees the new courses afterwards.
+ *
+ * Not @Transactional: the caches and indexes are refreshed after commit.
+ */
+@SpringBootTest
+@DisplayName("CourseImportService Tests")
+class CourseImportServiceTest {
+
+	@Autowired
+	private CourseImportService courseImportService;
+
+	@Autowired
+	private CourseService courseService;
+
+	@Autowired
+	private CourseRepository courseRepository;
+
+	@Autowired
+	private CatalogVersion catalogVersion;
+
+	private static InputStream file(String content) {
+		return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+	}
+
+	@Test
+	@DisplayName("should insert valid rows and skip duplicate and invalid ones")
+	void importCsv_shouldInsertValidRowsAndReportTheRest() throws IOException {
+		courseService.createCourse(new CreateCourseRequest(null, "Import Existing", "Already there", 5, BigDecimal.ONE, "Ann"));
+		long countBefore = courseService.getCourseCount();
+		String tagBefore = catalogVersion.catalogTag();
+
+		CourseImportResult result = courseImportService.importCourses(file("""
+				title,description,durationInHours,fees,instructor,capacity
+				Import Quantum Basics,Qubits and gates,12,99.50,Grace,30
+				Import Rust,Ownership and borrowing,,,,
+				Import Rust,Same title again,,,,
+				Import Existing,Title taken in the catalog,,,,
+				,No title,,,,
+				Import Broken,Bad duration,many,,,
+				"""), ImportFormat.CSV);
+
+		assertThat(result.getRows()).isEqualTo(6);
+		assertThat(result.getImported()).isEqualTo(2);
+		assertThat(result.getDuplicates()).isEqualTo(2);
+		assertThat(result.getInvalid()).isEqualTo(2);
+		assertThat(result.getErrors()).containsExactly(
+				"Line 6: Course title is required",
+				"Line 7: durationInHours 'many' is not a whole number");
+
+		CourseEntity quantum = courseRepository.findByTitle("Import Quantum Basics").orElseThrow();
+		assertThat(quantum.getFees()).isEqualByComparingTo("99.50");
+		assertThat(quantum.getCapacity()).isEqualTo(30);
+		assertThat(courseService.getCourseCount()).as("count cache evicted").isEqualTo(countBefore + 2);
+		assertThat(courseService.searchCourses("ownership", 10)).as("search index rebuilt")
+				.extracting(course -> course.getTitle()).contains("Import Rust");
+		assertThat(catalogVersion.catalogTag()).isNotEqualTo(tagBefore);
+	}
+
+	@Test
+	@DisplayName("NDJSON export output should import as is, ignoring ids and read-only fields")
+	void importNdjson_shouldAcceptExportFormat() throws IOException {
+		CourseImportResult result = courseImportService.importCourses(file("""
+				{"id":1,"title":"Import Kotlin","description":"Coroutines","fees":10.00,"enrolledCount":7,"full":false}
+				"""), ImportFormat.NDJSON);
+
+		assertThat(result.getImported()).isEqualTo(1);
+		CourseEntity kotlin = courseRepository.findByTitle("Import Kotlin").orElseThrow();
+		assertThat(kotlin.getId()).isNotEqualTo(1L);
+		assertThat(kotlin.getEnrolledCount()).isZero();
+	}
+
+	@Test
+	@DisplayName("a larger file should be inserted in several chunks")
+	void importCsv_shouldSpanChunks() throws IOException {
+		StringBuilder csv = new StringBuilder("title,description\n");
+		for (int i = 0; i < 2_500; i++) {
+			csv.append("Import Chunked #").append(i).append(",Chunk test\n");
+		}
+
+		CourseImportResult result = courseImportService.importCourses(file(csv.toString()), ImportFormat.CSV);
+
+		assertThat(result.getImported()).isEqualTo(2_500);
+		assertThat(courseRepository.findByTitle("Import Chunked #2499")).isPresent();
+	}
+
+	@Test
+	@DisplayName("a CSV without the required columns should import nothing")
+	void importCsv_missingColumns_shouldThrow() {
+		assertThatThrownBy(() -> courseImportService.importCourses(file("name,text\nImport Nothing,x\n"), ImportFormat.CSV))
+				.isInstanceOf(InvalidImportFileException.class);
+		assertThat(courseRepository.findByTitle("Import Nothing")).isEmpty();
+	}
+}
@@ -0,0 +1,102 @@
+package com.eduproject.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import com.eduproject.exception.CourseNotFoundException;
+import com.eduproject.model.CreateCourseRequest;
+import com.eduproject.repository.CourseRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Integration tests for the course caches (see CacheConfig).
+ *
+ * TESTING NOTES:
+ *
+ * @MockitoSpyBean
+ *   → Wraps the REAL repository bean, so the queries still hit H2,
+ *     but we can count how often the service actually reached the database.
+ *
+ * Not @Transactional on purpose: cache evictions are transaction-aware and only
+ * happen after commit, so each service call must commit on its own.
+ */
+@SpringBootTest
+@DisplayName("CourseServiceImpl Caching Tests")
+class CourseServiceCachingTest {
+
+	@Autowired
+	private CourseService courseService;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@MockitoSpyBean
+	private CourseRepository courseRepository;
+
+	private Long createCourse(String title) {
+		courseService.createCourse(new CreateCourseRequest(null, title, "Cached course", 10, BigDecimal.TEN, "Cache"));
+		return courseRepository.findByTitle(title).orElseThrow().getId();
+	}
+
+	@Test
+	@DisplayName("getCourseById should hit the database once, then serve from cache until updated")
+	void getCourseById_shouldBeCachedAndEvictedOnUpdate() {
+		Long id = createCourse("Caching 101");
+		clearInvocations(courseRepository);
+
+		courseService.getCourseById(id);
+		courseService.getCourseById(id);
+		verify(courseRepository, times(1)).findById(id);
+
+		courseService.updateCourse(new CreateCourseRequest(id, "Caching 102", "Renamed", 10, BigDecimal.TEN, "Cache"));
+		clearInvocations(courseRepository);
+
+		assertThat(courseService.getCourseById(id).getTitle()).isEqualTo("Caching 102");
+		verify(courseRepository, times(1)).findById(id);
+
+		assertThat(meterRegistry.get("cache.gets").tag("cache", "courses").tag("result", "hit")
+				.functionCounter().count()).isGreaterThanOrEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("catalog page should be cached and evicted when a course is created")
+	void coursePage_shouldBeEvictedOnCreate() {
+		courseService.getCoursePage(null, null, 50);
+		clearInvocations(courseRepository);
+
+		courseService.getCoursePage(null, null, 50);
+		verify(courseRepository, times(0)).findAllByOrderByTitleAscIdAsc(any());
+
+		createCourse("Cache Invalidation");
+		clearInvocations(courseRepository);
+
+		assertThat(courseService.getCoursePage(null, null, 50).getCourses())
+				.anyMatch(c -> c.getTitle().equals("Cache Invalidation"));
+		verify(courseRepository, times(1)).findAllByOrderByTitleAscIdAsc(any());
+	}
+
+	@Test
+	@DisplayName("delete should evict the deleted course")
+	void delete_shouldEvictCourse() {
+		Long id = createCourse("Short-lived");
+		courseService.getCourseById(id);
+
+		courseService.deleteCourseById(id);
+
+		assertThatThrownBy(() -> courseService.getCourseById(id))
+				.isInstanceOf(CourseNotFoundException.class);
+	}
+}
@@ -3,6 +3,8 @@ package com.eduproject.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -11,18 +13,34 @@ import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 
+import com.eduproject.model.BulkEnrollmentResult;
+import com.eduproject.model.CourseCursor;
+import com.eduproject.model.CoursePage;
+import com.eduproject.model.CourseResponse;
 import com.eduproject.model.CreateCourseRequest;
+import com.eduproject.model.EnrollmentEntity;
+import com.eduproject.model.EnrollmentId;
+import com.eduproject.model.UserEntity;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 
+import com.eduproject.event.CourseChangedEvent;
+import com.eduproject.exception.CourseFullException;
 import com.eduproject.exception.CourseNotFoundException;
+import com.eduproject.index.CourseSearchIndex;
+import com.eduproject.index.CourseTitleIndex;
 import com.eduproject.model.CourseEntity;
 import com.eduproject.repository.CourseRepository;
+import com.eduproject.repository.EnrollmentRepository;
+import com.eduproject.repository.UserRepository;
 import com.eduproject.service.impl.CourseServiceImpl;
 
 /**
@@ -55,6 +73,21 @@ class CourseServiceImplTest {
 	@Mock
 	private CourseRepository courseRepository;
 
+	@Mock
+	private UserRepository userRepository;
+
+	@Mock
+	private EnrollmentRepository enrollmentRepository;
+
+	@Mock
+	private CourseSearchIndex courseSearchIndex;
+
+	@Mock
+	private CourseTitleIndex courseTitleIndex;
+
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
 	@InjectMocks
 	private CourseServiceImpl courseService;
 
@@ -88,7 +121,7 @@ class CourseServiceImplTest {
 			when(courseRepository.findAll()).thenReturn(List.of(sampleEntity()));
 
 			// Act
-			List<CreateCourseRequest> result = courseService.getAllCourses();
+			List<CourseResponse> result = courseService.getAllCourses();
 
 			// Assert
 			assertThat(result).hasSize(1);
@@ -101,12 +134,76 @@ class CourseServiceImplTest {
 		void shouldReturnEmptyList() {
 			when(courseRepository.findAll()).thenReturn(List.of());
 
-			List<CreateCourseRequest> result = courseService.getAllCourses();
+			List<CourseResponse> result = courseService.getAllCourses();
 
 			assertThat(result).isEmpty();
 		}
 	}
 
+	// ==================== getCoursePage ====================
+
+	@Nested
+	@DisplayName("getCoursePage()")
+	class GetCoursePage {
+
+		private CourseEntity course(long id, String title) {
+			return CourseEntity.builder().id(id).title(title).description("d").build();
+		}
+
+		@Test
+		@DisplayName("first page should fetch size + 1 rows and expose only a next cursor")
+		void firstPageShouldHaveNextCursor() {
+			when(courseRepository.findAllByOrderByTitleAscIdAsc(Limit.of(3)))
+					.thenReturn(List.of(course(1, "A"), course(2, "B"), course(3, "C")));
+
+			CoursePage page = courseService.getCoursePage(null, null, 2);
+
+			assertThat(page.getCourses()).extracting(CourseResponse::getTitle).containsExactly("A", "B");
+			assertThat(page.hasPrevious()).isFalse();
+			assertThat(CourseCursor.decode(page.getNextCursor()).getTitle()).isEqualTo("B");
+		}
+
+		@Test
+		@DisplayName("after-cursor page should seek past the cursor row")
+		void afterCursorShouldSeek() {
+			String cursor = new CourseCursor("B", 2L).encode();
+			when(courseRepository.findPageAfter("B", 2L, Limit.of(3)))
+					.thenReturn(List.of(course(3, "C")));
+
+			CoursePage page = courseService.getCoursePage(cursor, null, 2);
+
+			assertThat(page.getCourses()).extracting(CourseResponse::getTitle).containsExactly("C");
+			assertThat(page.hasNext()).isFalse();
+			assertThat(CourseCursor.decode(page.getPreviousCursor()).getId()).isEqualTo(3L);
+		}
+
+		@Test
+		@DisplayName("before-cursor page should be returned in ascending order")
+		void beforeCursorShouldReverse() {
+			String cursor = new CourseCursor("D", 4L).encode();
+			when(courseRepository.findPageBefore("D", 4L, Limit.of(3)))
+					.thenReturn(List.of(course(3, "C"), course(2, "B"), course(1, "A")));
+
+			CoursePage page = courseService.getCoursePage(null, cursor, 2);
+
+			assertThat(page.getCourses()).extracting(CourseResponse::getTitle).containsExactly("B", "C");
+			assertThat(page.hasPrevious()).isTrue();
+			assertThat(page.hasNext()).isTrue();
+		}
+
+		@Test
+		@DisplayName("tampered cursor and oversized page should fall back to a clamped first page")
+		void invalidCursorShouldFallBack() {
+			when(courseRepository.findAllByOrderByTitleAscIdAsc(eq(Limit.of(CourseService.MAX_PAGE_SIZE + 1))))
+					.thenReturn(List.of(course(1, "A")));
+
+			CoursePage page = courseService.getCoursePage("%%not-base64%%", null, 10_000);
+
+			assertThat(page.getSize()).isEqualTo(CourseService.MAX_PAGE_SIZE);
+			assertThat(page.getCourses()).hasSize(1);
+		}
+	}
+
 	// ==================== getCourseById ====================
 
 	@Nested
@@ -118,7 +215,7 @@ class CourseServiceImplTest {
 		void shouldReturnCourse() {
 			when(courseRepository.findById(1L)).thenReturn(Optional.of(sampleEntity()));
 
-			CreateCourseRequest result = courseService.getCourseById(1L);
+			CourseResponse result = courseService.getCourseById(1L);
 
 			assertThat(result.getTitle()).isEqualTo("Spring Boot");
 			assertThat(result.getInstructor()).isEqualTo("John Doe");
@@ -135,6 +232,35 @@ class CourseServiceImplTest {
 		}
 	}
 
+	// ==================== searchCourses ====================
+
+	@Nested
+	@DisplayName("searchCourses()")
+	class SearchCourses {
+
+		@Test
+		@DisplayName("should load the hits by id and keep the index's rank order")
+		void shouldKeepRankOrder() {
+			CourseEntity first = sampleEntity();
+			CourseEntity second = CourseEntity.builder().id(2L).title("Spring Cloud").description("d").build();
+			when(courseSearchIndex.search("spring", 20)).thenReturn(List.of(2L, 1L));
+			when(courseRepository.findAllById(List.of(2L, 1L))).thenReturn(List.of(first, second));
+
+			List<CourseResponse> result = courseService.searchCourses("spring", 20);
+
+			assertThat(result).extracting(CourseResponse::getId).containsExactly(2L, 1L);
+		}
+
+		@Test
+		@DisplayName("should not query the database when nothing matches")
+		void shouldSkipDatabaseWithoutHits() {
+			when(courseSearchIndex.search("cobol", 20)).thenReturn(List.of());
+
+			assertThat(courseService.searchCourses("cobol", 20)).isEmpty();
+			verify(courseRepository, never()).findAllById(any());
+		}
+	}
+
 	// ==================== createCourse ====================
 
 	@Nested
@@ -151,6 +277,7 @@ class CourseServiceImplTest {
 
 			assertThat(title).isEqualTo("Spring Boot");
 			verify(courseRepository).save(any(CourseEntity.class));
+			verify(eventPublisher).publishEvent(CourseChangedEvent.saved(savedEntity));
 		}
 	}
 
@@ -174,6 +301,7 @@ class CourseServiceImplTest {
 			verify(courseRepository).findById(1L);
 			verify(courseRepository).save(existing);
 			assertThat(existing.getTitle()).isEqualTo("Updated Title");
+			verify(eventPublisher).publishEvent(CourseChangedEvent.saved(existing));
 		}
 
 		@Test
@@ -201,7 +329,9 @@ class CourseServiceImplTest {
 
 			courseService.deleteCourseById(1L);
 
+			verify(enrollmentRepository).deleteByCourseId(1L);
 			verify(courseRepository).deleteById(1L);
+			verify(eventPublisher).publishEvent(CourseChangedEvent.deleted(1L));
 		}
 
 		@Test
@@ -216,6 +346,130 @@ class CourseServiceImplTest {
 		}
 	}
 
+	// ==================== enrollment ====================
+
+	@Nested
+	@DisplayName("isCourseAlreadyEnrolled()")
+	class IsCourseAlreadyEnrolled {
+
+		@Test
+		@DisplayName("should answer with a single existence query (no course/user loading)")
+		void shouldUseExistenceQuery() {
+			when(enrollmentRepository.existsByIdCourseIdAndUserUsername(1L, "king")).thenReturn(true);
+
+			assertThat(courseService.isCourseAlreadyEnrolled(1L, "king")).isTrue();
+
+			verify(courseRepository, never()).findById(any());
+			verify(userRepository, never()).findByUsername(any());
+		}
+	}
+
+	@Nested
+	@DisplayName("enrollUser()")
+	class EnrollUser {
+
+		@Test
+		@DisplayName("should insert one new enrollment without loading the course")
+		void shouldInsertSingleEnrollment() {
+			when(courseRepository.existsById(1L)).thenReturn(true);
+			when(userRepository.findIdByUsername("king")).thenReturn(Optional.of(3L));
+			when(courseRepository.getReferenceById(1L)).thenReturn(CourseEntity.builder().id(1L).build());
+			when(userRepository.getReferenceById(3L)).thenReturn(UserEntity.builder().id(3L).build());
+			when(courseRepository.reserveSeat(1L)).thenReturn(1);
+
+			courseService.enrollUser(1L, "king");
+
+			ArgumentCaptor<EnrollmentEntity> captor = ArgumentCaptor.forClass(EnrollmentEntity.class);
+			verify(enrollmentRepository).saveAndFlush(captor.capture());
+			assertThat(captor.getValue().isNew()).isTrue();
+			assertThat(captor.getValue().getId()).isEqualTo(new EnrollmentId(1L, 3L));
+			verify(courseRepository, never()).findById(any());
+			verify(courseRepository, never()).save(any());
+		}
+
+		@Test
+		@DisplayName("should throw when course does not exist")
+		void shouldThrowForUnknownCourse() {
+			when(courseRepository.existsById(99L)).thenReturn(false);
+
+			assertThatThrownBy(() -> courseService.enrollUser(99L, "king"))
+					.isInstanceOf(CourseNotFoundException.class);
+			verify(enrollmentRepository, never()).saveAndFlush(any());
+		}
+
+		@Test
+		@DisplayName("should throw CourseFullException when no seat could be reserved")
+		void shouldThrowWhenFull() {
+			when(courseRepository.existsById(1L)).thenReturn(true);
+			when(userRepository.findIdByUsername("king")).thenReturn(Optional.of(3L));
+			when(courseRepository.getReferenceById(1L)).thenReturn(CourseEntity.builder().id(1L).build());
+			when(userRepository.getReferenceById(3L)).thenReturn(UserEntity.builder().id(3L).build());
+			when(courseRepository.reserveSeat(1L)).thenReturn(0);
+
+			assertThatThrownBy(() -> courseService.enrollUser(1L, "king"))
+					.isInstanceOf(CourseFullException.class);
+		}
+	}
+
+	@Nested
+	@DisplayName("enrollUsers()")
+	class EnrollUsers {
+
+		private UserRepository.UsernameId user(long id, String username) {
+			return new UserRepository.UsernameId() {
+				public Long getId() {
+					return id;
+				}
+
+				public String getUsername() {
+					return username;
+				}
+			};
+		}
+
+		@Test
+		@DisplayName("should batch-insert only new, known students and report the rest")
+		void shouldSkipEnrolledAndUnknown() {
+			when(courseRepository.existsById(1L)).thenReturn(true);
+			when(userRepository.findByUsernameIn(List.of("alice", "bob", "ghost", "carol")))
+					.thenReturn(List.of(user(1L, "alice"), user(2L, "bob"), user(3L, "carol")));
+			when(enrollmentRepository.findUserIdsByCourseId(1L)).thenReturn(List.of(2L));
+			when(courseRepository.reserveSeats(1L, 2)).thenReturn(1);
+
+			BulkEnrollmentResult result = courseService.enrollUsers(1L,
+					List.of("alice", " bob ", "", "ghost", "alice", "carol"));
+
+			verify(enrollmentRepository).insertAll(1L, List.of(1L, 3L));
+			assertThat(result.getRequested()).isEqualTo(4);
+			assertThat(result.getEnrolled()).isEqualTo(2);
+			assertThat(result.getAlreadyEnrolled()).isEqualTo(1);
+			assertThat(result.getUnknownUsernames()).containsExactly("ghost");
+		}
+
+		@Test
+		@DisplayName("should throw CourseFullException when the cohort does not fit")
+		void shouldRejectCohortLargerThanFreeSeats() {
+			when(courseRepository.existsById(1L)).thenReturn(true);
+			when(userRepository.findByUsernameIn(List.of("alice"))).thenReturn(List.of(user(1L, "alice")));
+			when(courseRepository.reserveSeats(1L, 1)).thenReturn(0);
+
+			assertThatThrownBy(() -> courseService.enrollUsers(1L, List.of("alice")))
+					.isInstanceOf(CourseFullException.class);
+		}
+
+		@Test
+		@DisplayName("should not touch seats when nobody is new")
+		void shouldDoNothingWhenAllEnrolled() {
+			when(courseRepository.existsById(1L)).thenReturn(true);
+			when(userRepository.findByUsernameIn(List.of("bob"))).thenReturn(List.of(user(2L, "bob")));
+			when(enrollmentRepository.findUserIdsByCourseId(1L)).thenReturn(List.of(2L));
+
+			assertThat(courseService.enrollUsers(1L, List.of("bob")).getEnrolled()).isZero();
+			verify(enrollmentRepository, never()).insertAll(any(), any());
+			verify(courseRepository, never()).reserveSeats(any(), anyInt());
+		}
+	}
+
 	// ==================== existsByTitle ====================
 
 	@Nested
@@ -235,6 +489,18 @@ class CourseServiceImplTest {
 			when(courseRepository.findByTitle("Unknown")).thenReturn(Optional.empty());
 			assertThat(courseService.existsByTitle("Unknown")).isFalse();
 		}
+
+		@Test
+		@DisplayName("should answer from the title index without a query once it is built")
+		void shouldUseTitleIndexWhenReady() {
+			when(courseTitleIndex.isReady()).thenReturn(true);
+			when(courseTitleIndex.findIdByTitle("Spring Boot")).thenReturn(Optional.of(1L));
+
+			assertThat(courseService.existsByTitle("Spring Boot")).isTrue();
+			assertThat(courseService.existsByTitleExcludingId("Spring Boot", 1L)).isFalse();
+			assertThat(courseService.existsByTitleExcludingId("Spring Boot", 2L)).isTrue();
+			verify(courseRepository, never()).findByTitle(any());
+		}
 	}
 
 	// ==================== existsByTitleExcludingId ====================
@@ -0,0 +1,96 @@
+package com.eduproject.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.eduproject.model.ImportFormat;
+import com.eduproject.service.impl.ImportRecordReader;
+import com.eduproject.service.impl.ImportRecordReader.ImportRecord;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@DisplayName("ImportRecordReader Tests")
+class ImportRecordReaderTest {
+
+	private static List<ImportRecord> read(ImportFormat format, String input) throws IOException {
+		List<ImportRecord> records = new ArrayList<>();
+		try (ImportRecordReader reader = new ImportRecordReader(new StringReader(input), format, new ObjectMapper())) {
+			for (ImportRecord record = reader.next(); record != null; record = reader.next()) {
+				records.add(record);
+			}
+		}
+		return records;
+	}
+
+	@Test
+	@DisplayName("CSV header names should be normalized and matched in any order")
+	void csv_shouldMatchColumnsByName() throws IOException {
+		List<ImportRecord> records = read(ImportFormat.CSV, """
+				﻿Description, Duration_In_Hours ,title,unknown
+				Learn Java, 40 ,Java,x
+				""");
+
+		assertThat(records).singleElement().satisfies(record -> {
+			assertThat(record.line()).isEqualTo(2);
+			assertThat(record.get("title")).isEqualTo("Java");
+			assertThat(record.get("description")).isEqualTo("Learn Java");
+			assertThat(record.get("durationInHours")).isEqualTo("40");
+		});
+	}
+
+	@Test
+	@DisplayName("quoted CSV values may hold commas, quotes and line breaks")
+	void csv_shouldHandleQuoting() throws IOException {
+		List<ImportRecord> records = read(ImportFormat.CSV, """
+				title,description
+				"Java, Advanced","Covers ""records""
+				and sealed types"
+
+				Go,
+				""");
+
+		assertThat(records).hasSize(2);
+		assertThat(records.get(0).get("title")).isEqualTo("Java, Advanced");
+		assertThat(records.get(0).get("description")).isEqualTo("Covers \"records\"\nand sealed types");
+		// Line numbers count physical lines, blank ones included
+		assertThat(records.get(1).line()).isEqualTo(5);
+		assertThat(records.get(1).get("description")).as("empty value").isNull();
+	}
+
+	@Test
+	@DisplayName("malformed CSV records should be reported without stopping the file")
+	void csv_shouldReportMalformedRecords() throws IOException {
+		List<ImportRecord> records = read(ImportFormat.CSV, """
+				title,description
+				a,b,c
+				Go,Learn Go
+				"unterminated,x
+				""");
+
+		assertThat(records).extracting(ImportRecord::error).containsExactly(
+				"expected at most 2 values, found 3", null, "unterminated quoted value");
+		assertThat(records.get(2).line()).isEqualTo(4);
+	}
+
+	@Test
+	@DisplayName("NDJSON should read one object per line and keep decimals exact")
+	void ndjson_shouldReadObjects() throws IOException {
+		List<ImportRecord> records = read(ImportFormat.NDJSON, """
+				{"id":1,"title":"Java","fees":12345678901234567.89,"capacity":null,"tags":["x"]}
+				[1, 2]
+				{"title":
+				""");
+
+		assertThat(records).hasSize(3);
+		assertThat(records.get(0).values()).containsOnlyKeys("id", "title", "fees");
+		assertThat(records.get(0).get("fees")).isEqualTo("12345678901234567.89");
+		assertThat(records.get(1).error()).isEqualTo("expected a JSON object");
+		assertThat(records.get(2).error()).startsWith("invalid JSON");
+	}
+}
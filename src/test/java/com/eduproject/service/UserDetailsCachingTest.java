@@ -0,0 +1,103 @@
+package com.eduproject.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import com.eduproject.config.CacheConfig;
+import com.eduproject.model.AuthenticatedUser;
+import com.eduproject.model.UserAccount;
+import com.eduproject.model.UserRequest;
+import com.eduproject.model.UserResponse;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Integration tests for the {@code userDetails} cache (see CacheConfig).
+ *
+ * Not @Transactional on purpose: evictions are transaction-aware and only
+ * complete after commit, so each service call must commit on its own.
+ */
+@SpringBootTest
+@DisplayName("User Details Caching Tests")
+class UserDetailsCachingTest {
+
+	@Autowired
+	private UserDetailsService userDetailsService;
+
+	@Autowired
+	private UserService userService;
+
+	@Autowired
+	private CacheManager cacheManager;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	private Long register(String username) {
+		userService.registerUser(new UserRequest(username, "password123", "Cache", "User", username + "@example.com"));
+		return userService.getUserIdByUsername(username);
+	}
+
+	private Cache cache() {
+		return cacheManager.getCache(CacheConfig.USER_DETAILS);
+	}
+
+	@Test
+	@DisplayName("login lookups should be cached and evicted when the user is updated")
+	void loadUserByUsername_shouldBeCachedAndEvictedOnUpdate() {
+		Long id = register("cached-login");
+
+		UserDetails first = userDetailsService.loadUserByUsername("cached-login");
+		UserDetails second = userDetailsService.loadUserByUsername("cached-login");
+
+		assertThat(second.getAuthorities()).extracting(Object::toString).containsExactly("ROLE_STUDENT");
+		assertThat(second).isNotSameAs(first);   // fresh principal per login, the cached value is shared
+		assertThat(second).isInstanceOf(AuthenticatedUser.class);
+		assertThat(((AuthenticatedUser) second).getId()).isEqualTo(id);
+
+		// Spring Security erasing one login's password must not affect the next login
+		((AuthenticatedUser) first).eraseCredentials();
+		assertThat(userDetailsService.loadUserByUsername("cached-login").getPassword()).isNotNull();
+		assertThat(cache().get("cached-login", UserAccount.class)).isNotNull()
+				.extracting(UserAccount::id).isEqualTo(id);
+
+		userService.updateUser(UserResponse.builder().id(id).email("changed-login@example.com").build());
+
+		assertThat(cache().get("cached-login")).isNull();
+		assertThat(meterRegistry.get("edupro.cache.hit.ratio").tag("cache", CacheConfig.USER_DETAILS)
+				.gauge().value()).isGreaterThan(0);
+	}
+
+	@Test
+	@DisplayName("a deleted user should stop authenticating immediately")
+	void loadUserByUsername_shouldFailRightAfterDelete() {
+		Long id = register("deleted-login");
+		userDetailsService.loadUserByUsername("deleted-login");
+
+		userService.deleteUserById(id);
+
+		assertThatThrownBy(() -> userDetailsService.loadUserByUsername("deleted-login"))
+				.isInstanceOf(UsernameNotFoundException.class);
+	}
+
+	@Test
+	@DisplayName("unknown usernames should not be cached, so a later registration can log in")
+	void unknownUsername_shouldNotBeCached() {
+		assertThatThrownBy(() -> userDetailsService.loadUserByUsername("registers-later"))
+				.isInstanceOf(UsernameNotFoundException.class);
+
+		register("registers-later");
+
+		assertThat(userDetailsService.loadUserByUsername("registers-later").getUsername()).isEqualTo("registers-later");
+	}
+}
@@ -0,0 +1,125 @@
+package com.eduproject.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.eduproject.exception.InvalidImportFileException;
+import com.eduproject.model.ImportFormat;
+import com.eduproject.model.Role;
+import com.eduproject.model.UserEntity;
+import com.eduproject.model.UserImportJob;
+import com.eduproject.repository.UserRepository;
+
+/**
+ * Bulk student import against H2: what gets inserted and reported, that passwords
+ * are hashed, and that registration sees the new usernames at once.
+ *
+ * Not @Transactional: the import commits on its own thread.
+ */
+@SpringBootTest
+@DisplayName("UserImportService Tests")
+class UserImportServiceTest {
+
+	@Autowired
+	private UserImportService userImportService;
+
+	@Autowired
+	private UserService userService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private PasswordEncoder passwordEncoder;
+
+	private static Path file(String content) throws IOException {
+		Path file = Files.createTempFile("user-import-test-", ".csv");
+		Files.writeString(file, content, StandardCharsets.UTF_8);
+		return file;
+	}
+
+	private static UserImportJob awaitFinished(UserImportJob job) throws InterruptedException {
+		Instant deadline = Instant.now().plus(Duration.ofSeconds(60));
+		while (!job.isFinished() && Instant.now().isBefore(deadline)) {
+			Thread.sleep(50);
+		}
+		assertThat(job.isFinished()).as("import finished in time").isTrue();
+		return job;
+	}
+
+	@Test
+	@DisplayName("should import valid rows and report every other row without aborting")
+	void importCsv_shouldInsertValidRowsAndReportTheRest() throws Exception {
+		Path file = file("""
+				username,password,firstName,lastName,email
+				intake-ada,secret-ada,Ada,Lovelace,ada@intake.test
+				intake-alan,secret-alan,Alan,,alan@intake.test
+				intake-ada,secret-ada,Ada,Again,ada2@intake.test
+				intake-eve,secret-eve,Eve,,alan@intake.test
+				admin,secret-admin,Taken,,someone@intake.test
+				intake-bob,secret-bob,Bob,,john@edupro.com
+				intake-short,12,Short,,short@intake.test
+				""");
+
+		UserImportJob job = awaitFinished(userImportService.startImport("intake.csv", ImportFormat.CSV, file));
+
+		assertThat(job.getState()).isEqualTo(UserImportJob.State.COMPLETED);
+		assertThat(job.getTotalRows()).isEqualTo(7);
+		assertThat(job.getImported()).isEqualTo(2);
+		assertThat(job.getFailed()).isEqualTo(5);
+		assertThat(job.getPercent()).isEqualTo(100);
+		assertThat(job.getErrors()).containsExactlyInAnyOrder(
+				"Line 4: username 'intake-ada' appears earlier in the file",
+				"Line 5: email 'alan@intake.test' appears earlier in the file",
+				"Line 6: username 'admin' is already taken",
+				"Line 7: email 'john@edupro.com' is already registered",
+				"Line 8: Password must be at least 6 characters");
+
+		UserEntity ada = userRepository.findByUsername("intake-ada").orElseThrow();
+		assertThat(ada.getRole()).isEqualTo(Role.STUDENT);
+		assertThat(ada.getFullName()).isEqualTo("Ada Lovelace");
+		assertThat(passwordEncoder.matches("secret-ada", ada.getPassword())).as("password hashed").isTrue();
+		assertThat(userService.existsByUsername("intake-alan")).as("existence filter updated").isTrue();
+		assertThat(Files.exists(file)).as("upload copy deleted").isFalse();
+	}
+
+	@Test
+	@DisplayName("a CSV without the required columns should be refused before queueing")
+	void importCsv_missingColumns_shouldThrow() throws Exception {
+		Path file = file("username,email\nnobody,nobody@intake.test\n");
+
+		assertThatThrownBy(() -> userImportService.startImport("bad.csv", ImportFormat.CSV, file))
+				.isInstanceOf(InvalidImportFileException.class);
+		assertThat(Files.exists(file)).isFalse();
+		assertThat(userRepository.findByUsername("nobody")).isEmpty();
+	}
+
+	@Test
+	@DisplayName("NDJSON rows should import like CSV rows")
+	void importNdjson_shouldInsertUsers() throws Exception {
+		Path file = file("""
+				{"username": "intake-json", "password": "secret-json", "firstName": "Jay", "email": "jay@intake.test"}
+				not json
+				""");
+
+		UserImportJob job = awaitFinished(userImportService.startImport("intake.ndjson", ImportFormat.NDJSON, file));
+
+		assertThat(job.getImported()).isEqualTo(1);
+		assertThat(job.getFailed()).isEqualTo(1);
+		assertThat(userRepository.existsByUsername("intake-json")).isTrue();
+		assertThat(userImportService.getRecentJobs()).first().isSameAs(job);
+	}
+}
@@ -12,15 +12,23 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import com.eduproject.index.UserExistenceFilter;
 import com.eduproject.model.Role;
 import com.eduproject.model.UserEntity;
 import com.eduproject.model.UserRequest;
+import com.eduproject.repository.CourseRepository;
+import com.eduproject.repository.EnrollmentRepository;
 import com.eduproject.repository.UserRepository;
 import com.eduproject.service.impl.UserServiceImpl;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 /**
  * Unit tests for UserServiceImpl.
  *
@@ -37,6 +45,23 @@ class UserServiceImplTest {
 	@Mock
 	private UserRepository userRepository;
 
+	@Mock
+	private EnrollmentRepository enrollmentRepository;
+
+	@Mock
+	private CourseRepository courseRepository;
+
+	@Mock
+	private CacheManager cacheManager;
+
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
+	// Real filter, never built: every uniqueness check falls through to the repository
+	@Spy
+	private UserExistenceFilter userExistenceFilter =
+			new UserExistenceFilter(null, new SimpleMeterRegistry(), Runnable::run, 1000, 0.01);
+
 	@InjectMocks
 	private UserServiceImpl userService;
 
@@ -91,6 +116,17 @@ class UserServiceImplTest {
 		assertThat(result).isEqualTo("John Doe");
 	}
 
+	@Test
+	@DisplayName("should add the new username and email to the existence filter")
+	void shouldAddToExistenceFilter() {
+		when(passwordEncoder.encode(anyString())).thenReturn("encoded");
+		when(userRepository.save(any(UserEntity.class))).thenAnswer(inv -> inv.getArgument(0));
+
+		userService.registerUser(sampleDTO());
+
+		verify(userExistenceFilter).add("testuser", "john@test.com");
+	}
+
 	@Test
 	@DisplayName("existsByEmail should delegate to repository")
 	void shouldCheckEmail() {